@@ -0,0 +1,152 @@
+package com.employeems.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Size-bounded LRU cache with optional time-to-live and hit/miss/eviction/load statistics
+ */
+public class BoundedCache<K, V> {
+    
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<K, CachedValue<V>> entries;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    
+    /**
+     * @param maxSize maximum number of entries before the least recently used one is evicted
+     * @param ttlMillis entry lifetime in milliseconds, or 0 for no expiry
+     */
+    public BoundedCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    /**
+     * Get a cached value, or {@code null} when absent or expired
+     */
+    public V get(K key) {
+        synchronized (entries) {
+            CachedValue<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(System.nanoTime())) {
+                hits.incrementAndGet();
+                return entry.value();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+    
+    /**
+     * Get a cached value or load it. A loaded value is only stored if no other value was put
+     * for the key while loading, so a slow load never overwrites a newer write-through value.
+     * Loaders returning {@code null} are not cached.
+     */
+    public V getOrLoad(K key, Function<K, V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        long start = System.nanoTime();
+        V loaded = loader.apply(key);
+        loads.incrementAndGet();
+        loadNanos.addAndGet(System.nanoTime() - start);
+        
+        if (loaded != null) {
+            synchronized (entries) {
+                CachedValue<V> existing = entries.get(key);
+                if (existing == null || existing.isExpired(System.nanoTime())) {
+                    entries.put(key, new CachedValue<>(loaded, expiry()));
+                }
+            }
+        }
+        return loaded;
+    }
+    
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new CachedValue<>(value, expiry()));
+        }
+    }
+    
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+    
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+    
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+    
+    public double hitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+    
+    public long evictionCount() {
+        return evictions.get();
+    }
+    
+    public double averageLoadMillis() {
+        long count = loads.get();
+        return count == 0 ? 0.0 : loadNanos.get() / 1_000_000.0 / count;
+    }
+    
+    /**
+     * Register size, hit ratio, eviction and load latency meters under the given name prefix
+     */
+    public void bindTo(MeterRegistry registry, String name) {
+        Gauge.builder(name + ".size", this, BoundedCache::size).register(registry);
+        Gauge.builder(name + ".hit.ratio", this, BoundedCache::hitRatio).register(registry);
+        Gauge.builder(name + ".load.latency", this, BoundedCache::averageLoadMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder(name + ".evictions", this, BoundedCache::evictionCount).register(registry);
+    }
+    
+    private long expiry() {
+        return ttlNanos > 0 ? System.nanoTime() + ttlNanos : Long.MAX_VALUE;
+    }
+    
+    private record CachedValue<V>(V value, long expiresAt) {
+        
+        boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.employeems.cache;
+
+import com.employeems.enums.Department;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic data versions bumped after every committed employee write.
+ * The global version changes on any write; a department version changes only when an
+ * employee enters, leaves or changes within that department. Readers that cache results
+ * derived from the data tag them with the version read before querying.
+ */
+@Component
+public class DataVersions {
+    
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong global = new AtomicLong();
+    private final Map<Department, AtomicLong> departments = new EnumMap<>(Department.class);
+    private volatile long lastModified = epoch;
+    
+    public DataVersions() {
+        for (Department department : Department.values()) {
+            departments.put(department, new AtomicLong());
+        }
+    }
+    
+    /**
+     * Start time of this process, which distinguishes versions across restarts
+     */
+    public long epoch() {
+        return epoch;
+    }
+    
+    public long global() {
+        return global.get();
+    }
+    
+    /**
+     * Time of the last committed write, or the process start before any write. Set after the
+     * global version is bumped, so read it before {@link #global()} to never pair a newer time
+     * with an older version.
+     */
+    public long lastModified() {
+        return lastModified;
+    }
+    
+    /**
+     * Version of the given department, or the global version when no department is given
+     */
+    public long of(Department department) {
+        return department == null ? global.get() : departments.get(department).get();
+    }
+    
+    /**
+     * Record a committed write touching the given departments (nulls are ignored)
+     */
+    public void bump(Collection<Department> touched) {
+        touched.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(department -> departments.get(department).incrementAndGet());
+        global.incrementAndGet();
+        lastModified = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,100 @@
+package com.employeems.cache;
+
+import com.employeems.entity.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of detached employee snapshots keyed by ID.
+ * Callers always receive a private copy, so mutating a returned employee never
+ * changes the cached snapshot. IDs that were looked up and not found are remembered
+ * for a short time in a separate negative cache, so repeated lookups of missing IDs
+ * do not reach the database.
+ */
+@Component
+public class EmployeeCache {
+    
+    private final BoundedCache<Long, Employee> cache;
+    private final BoundedCache<Long, Boolean> missing;
+    private final AtomicLong writes = new AtomicLong();
+    
+    @Autowired
+    public EmployeeCache(@Value("${employeems.cache.employee.max-size:10000}") int maxSize,
+                         @Value("${employeems.cache.employee.ttl-seconds:600}") long ttlSeconds,
+                         @Value("${employeems.cache.employee.missing-max-size:100000}") int missingMaxSize,
+                         @Value("${employeems.cache.employee.missing-ttl-seconds:30}") long missingTtlSeconds,
+                         MeterRegistry meterRegistry) {
+        this.cache = new BoundedCache<>(maxSize, ttlSeconds * 1000);
+        this.cache.bindTo(meterRegistry, "employees.cache");
+        this.missing = new BoundedCache<>(missingMaxSize, missingTtlSeconds * 1000);
+        this.missing.bindTo(meterRegistry, "employees.cache.missing");
+    }
+    
+    /**
+     * Get a copy of the cached employee, loading and caching a snapshot on a miss.
+     * IDs recently found missing return empty without calling the loader.
+     * A miss is only remembered if no write was committed while the loader ran, since the
+     * loader may have read from before that write.
+     */
+    public Optional<Employee> get(Long id, Function<Long, Optional<Employee>> loader) {
+        if (missing.get(id) != null) {
+            return Optional.empty();
+        }
+        
+        long writesBefore = writes.get();
+        Employee snapshot = cache.getOrLoad(id, key -> loader.apply(key).map(Employee::new).orElse(null));
+        if (snapshot == null) {
+            missing.put(id, Boolean.TRUE);
+            if (writes.get() != writesBefore) {
+                missing.invalidate(id);
+            }
+            return Optional.empty();
+        }
+        return Optional.of(new Employee(snapshot));
+    }
+    
+    /**
+     * Get the last modification time of an employee from the cached snapshot, falling back to
+     * the loader without caching anything. IDs recently found missing return empty.
+     */
+    public Optional<LocalDateTime> lastModified(Long id, Function<Long, Optional<LocalDateTime>> loader) {
+        if (missing.get(id) != null) {
+            return Optional.empty();
+        }
+        
+        Employee snapshot = cache.get(id);
+        if (snapshot != null) {
+            return Optional.ofNullable(snapshot.getUpdatedAt());
+        }
+        return loader.apply(id);
+    }
+    
+    /**
+     * Replace the cached snapshot after a committed write
+     */
+    public void put(Employee employee) {
+        writes.incrementAndGet();
+        missing.invalidate(employee.getId());
+        cache.put(employee.getId(), new Employee(employee));
+    }
+    
+    /**
+     * Forget negative entries for newly allocated IDs once they are committed
+     */
+    public void allocated(Collection<Long> ids) {
+        writes.incrementAndGet();
+        ids.forEach(missing::invalidate);
+    }
+    
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+}
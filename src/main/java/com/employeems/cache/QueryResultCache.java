@@ -0,0 +1,80 @@
+package com.employeems.cache;
+
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Cache of filtered and searched list pages, storing only the page's employee IDs and the total.
+ * Entries are keyed by the normalized query together with the data version read before the
+ * query ran, so any committed write to the relevant scope makes older entries unreachable
+ * and they simply age out of the LRU.
+ */
+@Component
+public class QueryResultCache {
+    
+    private final DataVersions dataVersions;
+    private final BoundedCache<VersionedKey, IdPage> cache;
+    
+    @Autowired
+    public QueryResultCache(DataVersions dataVersions,
+                            @Value("${employeems.cache.query.max-size:2000}") int maxSize,
+                            @Value("${employeems.cache.query.ttl-seconds:300}") long ttlSeconds,
+                            MeterRegistry meterRegistry) {
+        this.dataVersions = dataVersions;
+        this.cache = new BoundedCache<>(maxSize, ttlSeconds * 1000);
+        this.cache.bindTo(meterRegistry, "employees.cache.query");
+    }
+    
+    /**
+     * Current version of the data the query depends on; read it before running the query
+     */
+    public long version(Key key) {
+        return dataVersions.of(key.department());
+    }
+    
+    /**
+     * Get the cached page for the query at its current data version, or {@code null}
+     */
+    public IdPage get(Key key) {
+        return cache.get(new VersionedKey(key, version(key)));
+    }
+    
+    /**
+     * Store a page's IDs and total, computed against the given data version
+     */
+    public void put(Key key, long version, List<Long> ids, long total) {
+        cache.put(new VersionedKey(key, version), new IdPage(List.copyOf(ids), total));
+    }
+    
+    /**
+     * Normalized list query. Keywords are trimmed and lower-cased, since matching is case-insensitive.
+     */
+    public record Key(String query, Department department, EmployeeStatus status, Boolean isActive,
+                      String keyword, int page, int size, String sort) {
+        
+        public static Key of(String query, Department department, EmployeeStatus status, Boolean isActive,
+                             String keyword, Pageable pageable) {
+            String normalized = StringUtils.hasText(keyword) ? keyword.trim().toLowerCase(Locale.ROOT) : null;
+            return new Key(query, department, status, isActive, normalized,
+                    pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        }
+    }
+    
+    /**
+     * IDs of one page in display order, plus the total number of matches
+     */
+    public record IdPage(List<Long> ids, long total) {
+    }
+    
+    private record VersionedKey(Key key, long version) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.employeems.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of ready-to-write JSON response bodies, keyed by resource and resource key and tagged
+ * with a version that changes whenever the underlying data does. A body is only served for the
+ * exact version it was serialized from; any other version re-serializes and replaces it.
+ * Bodies at or above the gzip threshold are also stored pre-compressed.
+ */
+@Component
+public class SerializedResponseCache {
+    
+    public static final String EMPLOYEE = "employee";
+    
+    private final ObjectMapper objectMapper;
+    private final BoundedCache<Key, VersionedResponse> cache;
+    private final int gzipMinBytes;
+    
+    @Autowired
+    public SerializedResponseCache(ObjectMapper objectMapper,
+                                   @Value("${employeems.cache.response.max-size:5000}") int maxSize,
+                                   @Value("${employeems.cache.response.ttl-seconds:600}") long ttlSeconds,
+                                   @Value("${employeems.cache.response.gzip-min-bytes:1024}") int gzipMinBytes,
+                                   MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.cache = new BoundedCache<>(maxSize, ttlSeconds * 1000);
+        this.cache.bindTo(meterRegistry, "employees.cache.response");
+        this.gzipMinBytes = gzipMinBytes;
+    }
+    
+    /**
+     * Get the serialized body for the resource at the given version, serializing it on a miss
+     */
+    public SerializedResponse get(String resource, Object key, Object version, Supplier<?> body) {
+        Key cacheKey = new Key(resource, key);
+        VersionedResponse cached = cache.get(cacheKey);
+        if (cached != null && Objects.equals(cached.version(), version)) {
+            return cached.response();
+        }
+        
+        SerializedResponse response = serialize(body.get());
+        cache.put(cacheKey, new VersionedResponse(version, response));
+        return response;
+    }
+    
+    /**
+     * Drop the cached body of a resource after a write
+     */
+    public void invalidate(String resource, Object key) {
+        cache.invalidate(new Key(resource, key));
+    }
+    
+    private SerializedResponse serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new SerializedResponse(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response body", e);
+        }
+    }
+    
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+    
+    /**
+     * JSON body, plus its gzip encoding when the body is large enough to be worth compressing
+     */
+    public record SerializedResponse(byte[] json, byte[] gzip) {
+    }
+    
+    private record Key(String resource, Object key) {
+    }
+    
+    private record VersionedResponse(Object version, SerializedResponse response) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.employeems.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls: the first caller for a key runs the computation and
+ * every caller arriving while it is in flight waits for and shares the same result (or failure).
+ * Nothing is cached once the computation completes.
+ */
+@Component
+public class SingleFlight {
+    
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executions;
+    private final Counter shared;
+    
+    @Autowired
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.executions = Counter.builder("employees.singleflight.executions").register(meterRegistry);
+        this.shared = Counter.builder("employees.singleflight.shared").register(meterRegistry);
+    }
+    
+    /**
+     * Run the computation for the given operation and arguments, or join the identical call already running
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Supplier<T> computation, Object... arguments) {
+        Key key = new Key(operation, Arrays.asList(arguments));
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            shared.increment();
+            return (T) join(running);
+        }
+        
+        executions.increment();
+        try {
+            T result = computation.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+    
+    private static Object join(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    private record Key(String operation, List<Object> arguments) {
+    }
+}
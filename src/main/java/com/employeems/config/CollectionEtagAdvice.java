@@ -0,0 +1,53 @@
+package com.employeems.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Answers conditional GETs on employee list and aggregate endpoints with the version recorded by
+ * {@link CollectionEtagInterceptor}. It runs after the handler, so invalid parameters still get
+ * their 400, but before serialization: an If-None-Match or If-Modified-Since for an unchanged
+ * collection returns 304 without writing the body. Successful responses carry the weak ETag and
+ * Last-Modified headers.
+ */
+@ControllerAdvice
+public class CollectionEtagAdvice implements ResponseBodyAdvice<Object> {
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        HttpServletResponse httpResponse = servletResponse.getServletResponse();
+        if (!(httpRequest.getAttribute(CollectionEtagInterceptor.VERSION_ATTRIBUTE)
+                instanceof CollectionEtagInterceptor.CollectionVersion version)
+                || httpResponse.getStatus() != HttpStatus.OK.value()) {
+            return body;
+        }
+        
+        boolean notModified = new ServletWebRequest(httpRequest, httpResponse)
+                .checkNotModified(version.etag(), version.lastModified());
+        return notModified ? null : body;
+    }
+}
@@ -0,0 +1,42 @@
+package com.employeems.config;
+
+import com.employeems.cache.DataVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Records the collection version of employee list and aggregate GETs before the handler runs.
+ * The entity tag is the global data version (process epoch plus write counter), read before the
+ * handler queries so the body is never older than its tag; {@link CollectionEtagAdvice} evaluates
+ * it once the handler has validated the request and produced a body.
+ * The tag is weak because the same version is served as JSON, CBOR and Smile.
+ */
+@Component
+public class CollectionEtagInterceptor implements HandlerInterceptor {
+    
+    static final String VERSION_ATTRIBUTE = CollectionEtagInterceptor.class.getName() + ".version";
+    
+    private final DataVersions dataVersions;
+    
+    @Autowired
+    public CollectionEtagInterceptor(DataVersions dataVersions) {
+        this.dataVersions = dataVersions;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) {
+            long lastModified = dataVersions.lastModified();
+            String etag = "W/\"" + dataVersions.epoch() + "-" + dataVersions.global() + "\"";
+            request.setAttribute(VERSION_ATTRIBUTE, new CollectionVersion(etag, lastModified));
+        }
+        return true;
+    }
+    
+    record CollectionVersion(String etag, long lastModified) {
+    }
+}
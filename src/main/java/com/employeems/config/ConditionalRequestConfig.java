@@ -0,0 +1,33 @@
+package com.employeems.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers collection-level ETags on the employee API, evaluated by {@link CollectionEtagAdvice}.
+ * Single employees ({@code GET /{id}}) are excluded because they carry their own per-record tag
+ * derived from {@code updatedAt}; the
+ * change feed is excluded because held-back changes become visible without a new data version,
+ * the live event stream because it is never a cacheable representation, and journal reads
+ * because the journal is written behind the data version by the outbox relay.
+ */
+@Configuration
+public class ConditionalRequestConfig implements WebMvcConfigurer {
+    
+    private final CollectionEtagInterceptor collectionEtagInterceptor;
+    
+    @Autowired
+    public ConditionalRequestConfig(CollectionEtagInterceptor collectionEtagInterceptor) {
+        this.collectionEtagInterceptor = collectionEtagInterceptor;
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(collectionEtagInterceptor)
+                .addPathPatterns("/api/employees", "/api/employees/**")
+                .excludePathPatterns("/api/employees/{id:\\d+}", "/api/employees/changes", "/api/employees/live",
+                        "/api/employees/journal/**", "/api/employees/{id:\\d+}/history");
+    }
+}
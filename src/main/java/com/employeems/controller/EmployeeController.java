@@ -1,10 +1,25 @@
 package com.employeems.controller;
 
-import com.employeems.dto.EmployeeStatisticsDTO;
+import com.employeems.cache.DataVersions;
+import com.employeems.cache.SerializedResponseCache;
+import com.employeems.cache.SerializedResponseCache.SerializedResponse;
+import com.employeems.dto.BatchCreateResponse;
+import com.employeems.dto.ChangeFeedResponse;
+import com.employeems.dto.KeysetSlice;
 import com.employeems.entity.Employee;
+import com.employeems.events.LiveUpdateBroadcaster;
+import com.employeems.journal.ChangeJournal;
+import com.employeems.journal.JournalRecord;
 import com.employeems.enums.Department;
 import com.employeems.enums.EmployeeStatus;
+import com.employeems.exception.InvalidEmployeeDataException;
+import com.employeems.service.EmployeeEtags;
+import com.employeems.service.EmployeeNdjsonWriter;
+import com.employeems.service.EmployeeRowHandler;
 import com.employeems.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,14 +28,31 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for Employee management
@@ -32,43 +64,174 @@ public class EmployeeController {
     
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
     
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final String VIEW_SUMMARY = "summary";
+    private static final String VIEW_FULL = "full";
+    
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final SerializedResponseCache responseCache;
+    private final DataVersions dataVersions;
+    private final LiveUpdateBroadcaster liveUpdates;
+    private final ChangeJournal changeJournal;
     
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper,
+                              SerializedResponseCache responseCache, DataVersions dataVersions,
+                              LiveUpdateBroadcaster liveUpdates, ChangeJournal changeJournal) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
+        this.dataVersions = dataVersions;
+        this.liveUpdates = liveUpdates;
+        this.changeJournal = changeJournal;
     }
     
     /**
-     * GET /api/employees - Get all employees with pagination and sorting
+     * GET /api/employees - Get all employees with pagination and sorting.
+     * Returns summaries unless {@code view=full} is requested; {@code fields=a,b,c} selects
+     * only those attributes (plus the ID) and takes precedence over the view.
      */
     @GetMapping
-    public ResponseEntity<Page<Employee>> getAllEmployees(
+    public ResponseEntity<Page<?>> getAllEmployees(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "firstName") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = VIEW_SUMMARY) String view,
+            @RequestParam(required = false) String fields) {
         
-        logger.info("Fetching all employees - page: {}, size: {}, sortBy: {}, sortDir: {}", 
-                   page, size, sortBy, sortDir);
+        logger.info("Fetching all employees - page: {}, size: {}, sortBy: {}, sortDir: {}, view: {}, fields: {}", 
+                   page, size, sortBy, sortDir, view, fields);
         
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Employee> employees = employeeService.getAllEmployees(pageable);
+        Pageable pageable = pageRequest(page, size, sort);
+        Page<?> employees;
+        if (fields != null) {
+            employees = employeeService.getEmployeeFields(parseFields(fields), pageable);
+        } else if (isFullView(view)) {
+            employees = employeeService.getAllEmployees(pageable);
+        } else {
+            employees = employeeService.getEmployeeSummaries(pageable);
+        }
+        
+        return ResponseEntity.ok(employees);
+    }
+    
+    /**
+     * GET /api/employees?after= - Get employees with keyset (cursor) pagination
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<KeysetSlice<Employee>> getAllEmployeesAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "firstName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+        
+        logger.info("Fetching all employees after cursor - size: {}, sortBy: {}, sortDir: {}", size, sortBy, sortDir);
+        
+        KeysetSlice<Employee> employees = employeeService.getEmployeesAfter(
+                null, null, null, null, after, size, sortBy, sortDirection(sortDir));
         
         return ResponseEntity.ok(employees);
     }
     
     /**
-     * GET /api/employees/{id} - Get employee by ID
+     * GET /api/employees/changes?since= - Get employees changed since a token returned by a previous call
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        
+        logger.info("Fetching employee changes - limit: {}", limit);
+        
+        ChangeFeedResponse changes = employeeService.getChangesSince(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+    
+    /**
+     * GET /api/employees/live - Subscribe to pushed employee changes and statistics (Server-Sent Events)
+     */
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeToLiveUpdates() {
+        logger.info("Opening live update subscription");
+        
+        return ResponseEntity.ok(liveUpdates.subscribe());
+    }
+    
+    /**
+     * GET /api/employees/journal?from= - Replay the change journal from a sequence number
+     */
+    @GetMapping("/journal")
+    public ResponseEntity<List<JournalRecord>> replayJournal(
+            @RequestParam(defaultValue = "1") long from,
+            @RequestParam(defaultValue = "100") int limit) {
+        
+        logger.info("Replaying change journal from sequence {} - limit: {}", from, limit);
+        
+        List<JournalRecord> records = changeJournal.replay(from, limit);
+        return ResponseEntity.ok(records);
+    }
+    
+    /**
+     * GET /api/employees/journal/tail - Get the most recent change journal records
+     */
+    @GetMapping("/journal/tail")
+    public ResponseEntity<List<JournalRecord>> tailJournal(@RequestParam(defaultValue = "50") int count) {
+        logger.info("Fetching last {} change journal records", count);
+        
+        List<JournalRecord> records = changeJournal.tail(count);
+        return ResponseEntity.ok(records);
+    }
+    
+    /**
+     * GET /api/employees/{id}/history - Get every recorded state of an employee from the change journal
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<JournalRecord>> getEmployeeHistory(@PathVariable Long id) {
+        logger.info("Fetching change history for employee with ID: {}", id);
+        
+        List<JournalRecord> history = changeJournal.history(id);
+        return ResponseEntity.ok(history);
+    }
+    
+    /**
+     * GET /api/employees/{id} - Get employee by ID.
+     * Conditional requests are validated against {@code updatedAt} before the employee is loaded.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable Long id) {
+    public ResponseEntity<?> getEmployeeById(@PathVariable Long id, @RequestHeader HttpHeaders headers,
+                                             WebRequest request) {
         logger.info("Fetching employee with ID: {}", id);
         
+        boolean conditional = !headers.getIfNoneMatch().isEmpty() || headers.getIfModifiedSince() >= 0;
+        if (conditional && checkNotModified(request, id, employeeService.getEmployeeLastModified(id))) {
+            return null;
+        }
+        
         Employee employee = employeeService.getEmployeeById(id);
+        if (!conditional) {
+            checkNotModified(request, id, employee.getUpdatedAt());
+        }
+        if (!prefersJson(headers)) {
+            return ResponseEntity.ok(employee);
+        }
+        return serialized(headers, responseCache.get(SerializedResponseCache.EMPLOYEE, id,
+                employee.getUpdatedAt(), () -> employee));
+    }
+    
+    /**
+     * GET /api/employees/{id}?fields= - Get selected fields of an employee
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getEmployeeFieldsById(@PathVariable Long id,
+                                                                     @RequestParam String fields) {
+        logger.info("Fetching fields {} of employee with ID: {}", fields, id);
+        
+        Map<String, Object> employee = employeeService.getEmployeeFieldsById(id, parseFields(fields));
         return ResponseEntity.ok(employee);
     }
     
@@ -83,16 +246,61 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
     }
     
+    /**
+     * POST /api/employees/batch - Create employees from a JSON array
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchCreateResponse> createEmployees(@RequestBody List<Employee> employees) {
+        logger.info("Creating batch of {} employees", employees.size());
+        
+        BatchCreateResponse response = employeeService.saveEmployees(employees);
+        return batchResponse(response);
+    }
+    
+    /**
+     * POST /api/employees/batch - Create employees from newline-delimited JSON.
+     * Rows are read one at a time so an oversized body is rejected as soon as it passes the limit.
+     */
+    @PostMapping(value = "/batch", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BatchCreateResponse> createEmployeesFromNdjson(InputStream body) throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        try (MappingIterator<Employee> iterator = objectMapper.readerFor(Employee.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                if (employees.size() == EmployeeService.MAX_BATCH_SIZE) {
+                    throw new InvalidEmployeeDataException(
+                            "Batch cannot contain more than " + EmployeeService.MAX_BATCH_SIZE + " employees");
+                }
+                employees.add(iterator.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidEmployeeDataException("Malformed NDJSON body: " + e.getOriginalMessage());
+        }
+        
+        logger.info("Creating batch of {} employees from NDJSON", employees.size());
+        
+        BatchCreateResponse response = employeeService.saveEmployees(employees);
+        return batchResponse(response);
+    }
+    
+    /**
+     * 201 when every row was created, 207 Multi-Status when any row failed
+     */
+    private ResponseEntity<BatchCreateResponse> batchResponse(BatchCreateResponse response) {
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+    
     /**
      * PUT /api/employees/{id} - Update employee
      */
     @PutMapping("/{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable Long id, 
-                                                 @Valid @RequestBody Employee employeeDetails) {
+                                                 @Valid @RequestBody Employee employeeDetails,
+                                                 @RequestHeader HttpHeaders headers) {
         logger.info("Updating employee with ID: {}", id);
         
-        Employee updatedEmployee = employeeService.updateEmployee(id, employeeDetails);
-        return ResponseEntity.ok(updatedEmployee);
+        Employee updatedEmployee = employeeService.updateEmployee(id, employeeDetails, headers.getIfMatch());
+        return ResponseEntity.ok().eTag(EmployeeEtags.of(updatedEmployee)).body(updatedEmployee);
     }
     
     /**
@@ -107,30 +315,50 @@ public class EmployeeController {
     }
     
     /**
-     * GET /api/employees/search - Search employees by keyword
+     * GET /api/employees/search - Search employees by keyword.
+     * Returns summaries unless {@code view=full} is requested.
+     * JSON stays the default for any Accept header that does not ask for NDJSON explicitly.
      */
-    @GetMapping("/search")
-    public ResponseEntity<List<Employee>> searchEmployees(@RequestParam String keyword) {
-        logger.info("Searching employees with keyword: {}", keyword);
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.ALL_VALUE})
+    public ResponseEntity<List<?>> searchEmployees(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = VIEW_SUMMARY) String view) {
         
-        List<Employee> employees = employeeService.searchEmployees(keyword);
+        logger.info("Searching employees with keyword: {}, view: {}", keyword, view);
+        
+        List<?> employees = isFullView(view)
+                ? employeeService.searchEmployees(keyword)
+                : employeeService.searchEmployeeSummaries(keyword);
         return ResponseEntity.ok(employees);
     }
     
+    /**
+     * GET /api/employees/search (Accept: application/x-ndjson) - Stream search results
+     */
+    @GetMapping(value = "/search", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSearchResults(@RequestParam String keyword) {
+        logger.info("Streaming employees with keyword: {} as NDJSON", keyword);
+        
+        return ndjson(handler -> employeeService.streamSearchResults(keyword, handler));
+    }
+    
     /**
      * GET /api/employees/search/paginated - Search employees with pagination
      */
     @GetMapping("/search/paginated")
-    public ResponseEntity<Page<Employee>> searchEmployeesWithPagination(
+    public ResponseEntity<Page<?>> searchEmployeesWithPagination(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = VIEW_SUMMARY) String view) {
         
-        logger.info("Searching employees with keyword: {} and pagination - page: {}, size: {}", 
-                   keyword, page, size);
+        logger.info("Searching employees with keyword: {} and pagination - page: {}, size: {}, view: {}", 
+                   keyword, page, size, view);
         
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Employee> employees = employeeService.searchEmployeesWithPagination(keyword, pageable);
+        Pageable pageable = pageRequest(page, size, Sort.unsorted());
+        Page<?> employees = isFullView(view)
+                ? employeeService.searchEmployeesWithPagination(keyword, pageable)
+                : employeeService.searchEmployeeSummariesWithPagination(keyword, pageable);
         
         return ResponseEntity.ok(employees);
     }
@@ -138,7 +366,7 @@ public class EmployeeController {
     /**
      * GET /api/employees/department/{dept} - Get employees by department
      */
-    @GetMapping("/department/{dept}")
+    @GetMapping(value = "/department/{dept}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.ALL_VALUE})
     public ResponseEntity<List<Employee>> getEmployeesByDepartment(@PathVariable Department dept) {
         logger.info("Fetching employees by department: {}", dept);
         
@@ -146,10 +374,20 @@ public class EmployeeController {
         return ResponseEntity.ok(employees);
     }
     
+    /**
+     * GET /api/employees/department/{dept} (Accept: application/x-ndjson) - Stream employees by department
+     */
+    @GetMapping(value = "/department/{dept}", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployeesByDepartment(@PathVariable Department dept) {
+        logger.info("Streaming employees by department: {} as NDJSON", dept);
+        
+        return ndjson(handler -> employeeService.streamEmployeesByDepartment(dept, handler));
+    }
+    
     /**
      * GET /api/employees/status/{status} - Get employees by status
      */
-    @GetMapping("/status/{status}")
+    @GetMapping(value = "/status/{status}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.ALL_VALUE})
     public ResponseEntity<List<Employee>> getEmployeesByStatus(@PathVariable EmployeeStatus status) {
         logger.info("Fetching employees by status: {}", status);
         
@@ -158,57 +396,174 @@ public class EmployeeController {
     }
     
     /**
-     * GET /api/employees/filter - Get employees with filters
+     * GET /api/employees/status/{status} (Accept: application/x-ndjson) - Stream employees by status
+     */
+    @GetMapping(value = "/status/{status}", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployeesByStatus(@PathVariable EmployeeStatus status) {
+        logger.info("Streaming employees by status: {} as NDJSON", status);
+        
+        return ndjson(handler -> employeeService.streamEmployeesByStatus(status, handler));
+    }
+    
+    /**
+     * GET /api/employees/filter - Get employees with filters.
+     * Returns summaries unless {@code view=full} is requested; {@code fields=a,b,c} selects
+     * only those attributes (plus the ID) and takes precedence over the view.
      */
     @GetMapping("/filter")
-    public ResponseEntity<Page<Employee>> getEmployeesWithFilters(
+    public ResponseEntity<Page<?>> getEmployeesWithFilters(
             @RequestParam(required = false) Department department,
             @RequestParam(required = false) EmployeeStatus status,
+            @RequestParam(required = false) Boolean active,
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "firstName") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = VIEW_SUMMARY) String view,
+            @RequestParam(required = false) String fields) {
         
-        logger.info("Fetching employees with filters - department: {}, status: {}, keyword: {}", 
-                   department, status, keyword);
+        logger.info("Fetching employees with filters - department: {}, status: {}, active: {}, keyword: {}, view: {}, fields: {}", 
+                   department, status, active, keyword, view, fields);
         
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                    Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Employee> employees = employeeService.getEmployeesWithFilters(
-                department, status, keyword, pageable);
+        Pageable pageable = pageRequest(page, size, sort);
+        Page<?> employees;
+        if (fields != null) {
+            employees = employeeService.getEmployeeFieldsWithFilters(
+                    parseFields(fields), department, status, active, keyword, pageable);
+        } else if (isFullView(view)) {
+            employees = employeeService.getEmployeesWithFilters(department, status, active, keyword, pageable);
+        } else {
+            employees = employeeService.getEmployeeSummariesWithFilters(department, status, active, keyword, pageable);
+        }
+        
+        return ResponseEntity.ok(employees);
+    }
+    
+    /**
+     * GET /api/employees/filter?after= - Get employees with filters and keyset (cursor) pagination
+     */
+    @GetMapping(value = "/filter", params = "after")
+    public ResponseEntity<KeysetSlice<Employee>> getEmployeesWithFiltersAfter(
+            @RequestParam(required = false) Department department,
+            @RequestParam(required = false) EmployeeStatus status,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String keyword,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "firstName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+        
+        logger.info("Fetching employees with filters after cursor - department: {}, status: {}, active: {}, keyword: {}", 
+                   department, status, active, keyword);
         
+        KeysetSlice<Employee> employees = employeeService.getEmployeesAfter(
+                department, status, active, keyword, after, size, sortBy, sortDirection(sortDir));
+        
+        return ResponseEntity.ok(employees);
+    }
+    
+    /**
+     * GET /api/employees/hire-date-range - Get a page of active employees by hire date range,
+     * as summaries unless {@code view=full} is requested
+     */
+    @GetMapping(value = "/hire-date-range", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.ALL_VALUE})
+    public ResponseEntity<Page<?>> getEmployeesByHireDateRange(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = VIEW_SUMMARY) String view) {
+        
+        logger.info("Fetching employees by hire date range: {} to {} - page: {}, size: {}, view: {}", 
+                   startDate, endDate, page, size, view);
+        
+        Pageable pageable = pageRequest(page, size, Sort.unsorted());
+        Page<?> employees = isFullView(view)
+                ? employeeService.getEmployeesByHireDateRange(startDate, endDate, pageable)
+                : employeeService.getEmployeeSummariesByHireDateRange(startDate, endDate, pageable);
         return ResponseEntity.ok(employees);
     }
     
     /**
-     * GET /api/employees/hire-date-range - Get employees by hire date range
+     * GET /api/employees/hire-date-range (Accept: application/x-ndjson) - Stream employees by hire date range
+     */
+    @GetMapping(value = "/hire-date-range", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployeesByHireDateRange(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        
+        logger.info("Streaming employees by hire date range: {} to {} as NDJSON", startDate, endDate);
+        
+        employeeService.validateHireDateRange(startDate, endDate);
+        return ndjson(handler -> employeeService.streamEmployeesByHireDateRange(startDate, endDate, handler));
+    }
+    
+    /**
+     * GET /api/employees/hire-date-range/count - Count employees by hire date range
      */
-    @GetMapping("/hire-date-range")
-    public ResponseEntity<List<Employee>> getEmployeesByHireDateRange(
+    @GetMapping("/hire-date-range/count")
+    public ResponseEntity<Map<String, Long>> countEmployeesByHireDateRange(
             @RequestParam LocalDate startDate,
             @RequestParam LocalDate endDate) {
         
-        logger.info("Fetching employees by hire date range: {} to {}", startDate, endDate);
+        logger.info("Counting employees by hire date range: {} to {}", startDate, endDate);
         
-        List<Employee> employees = employeeService.getEmployeesByHireDateRange(startDate, endDate);
+        long count = employeeService.countEmployeesByHireDateRange(startDate, endDate);
+        return ResponseEntity.ok(Map.of("count", count));
+    }
+    
+    /**
+     * GET /api/employees/salary-range - Get a page of active employees by salary range,
+     * as summaries unless {@code view=full} is requested
+     */
+    @GetMapping(value = "/salary-range", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.ALL_VALUE})
+    public ResponseEntity<Page<?>> getEmployeesBySalaryRange(
+            @RequestParam BigDecimal minSalary,
+            @RequestParam BigDecimal maxSalary,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = VIEW_SUMMARY) String view) {
+        
+        logger.info("Fetching employees by salary range: {} to {} - page: {}, size: {}, view: {}", 
+                   minSalary, maxSalary, page, size, view);
+        
+        Pageable pageable = pageRequest(page, size, Sort.unsorted());
+        Page<?> employees = isFullView(view)
+                ? employeeService.getEmployeesBySalaryRange(minSalary, maxSalary, pageable)
+                : employeeService.getEmployeeSummariesBySalaryRange(minSalary, maxSalary, pageable);
         return ResponseEntity.ok(employees);
     }
     
     /**
-     * GET /api/employees/salary-range - Get employees by salary range
+     * GET /api/employees/salary-range (Accept: application/x-ndjson) - Stream employees by salary range
      */
-    @GetMapping("/salary-range")
-    public ResponseEntity<List<Employee>> getEmployeesBySalaryRange(
+    @GetMapping(value = "/salary-range", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployeesBySalaryRange(
             @RequestParam BigDecimal minSalary,
             @RequestParam BigDecimal maxSalary) {
         
-        logger.info("Fetching employees by salary range: {} to {}", minSalary, maxSalary);
+        logger.info("Streaming employees by salary range: {} to {} as NDJSON", minSalary, maxSalary);
         
-        List<Employee> employees = employeeService.getEmployeesBySalaryRange(minSalary, maxSalary);
-        return ResponseEntity.ok(employees);
+        employeeService.validateSalaryRange(minSalary, maxSalary);
+        return ndjson(handler -> employeeService.streamEmployeesBySalaryRange(minSalary, maxSalary, handler));
+    }
+    
+    /**
+     * GET /api/employees/salary-range/count - Count employees by salary range
+     */
+    @GetMapping("/salary-range/count")
+    public ResponseEntity<Map<String, Long>> countEmployeesBySalaryRange(
+            @RequestParam BigDecimal minSalary,
+            @RequestParam BigDecimal maxSalary) {
+        
+        logger.info("Counting employees by salary range: {} to {}", minSalary, maxSalary);
+        
+        long count = employeeService.countEmployeesBySalaryRange(minSalary, maxSalary);
+        return ResponseEntity.ok(Map.of("count", count));
     }
     
     /**
@@ -216,11 +571,13 @@ public class EmployeeController {
      */
     @GetMapping("/top-paid")
     public ResponseEntity<List<Employee>> getTopPaidEmployees(
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) Department department,
+            @RequestParam(defaultValue = "false") boolean activeOnly) {
         
-        logger.info("Fetching top {} paid employees", limit);
+        logger.info("Fetching top {} paid employees - department: {}, activeOnly: {}", limit, department, activeOnly);
         
-        List<Employee> employees = employeeService.getTopPaidEmployees(limit);
+        List<Employee> employees = employeeService.getTopPaidEmployees(limit, department, activeOnly);
         return ResponseEntity.ok(employees);
     }
     
@@ -228,39 +585,46 @@ public class EmployeeController {
      * GET /api/employees/statistics - Get employee statistics
      */
     @GetMapping("/statistics")
-    public ResponseEntity<EmployeeStatisticsDTO> getEmployeeStatistics() {
+    public ResponseEntity<?> getEmployeeStatistics(@RequestHeader HttpHeaders headers) {
         logger.info("Fetching employee statistics");
         
-        EmployeeStatisticsDTO statistics = employeeService.getEmployeeStatistics();
-        return ResponseEntity.ok(statistics);
+        return aggregate("statistics", headers, employeeService::getEmployeeStatistics);
     }
     
     /**
      * GET /api/employees/department-count - Get employee count by department
      */
     @GetMapping("/department-count")
-    public ResponseEntity<Map<Department, Long>> getEmployeeCountByDepartment() {
+    public ResponseEntity<?> getEmployeeCountByDepartment(@RequestHeader HttpHeaders headers) {
         logger.info("Fetching employee count by department");
         
-        Map<Department, Long> departmentCount = employeeService.getEmployeeCountByDepartment();
-        return ResponseEntity.ok(departmentCount);
+        return aggregate("department-count", headers, employeeService::getEmployeeCountByDepartment);
     }
     
     /**
      * GET /api/employees/salary-by-department - Get total salary by department
      */
     @GetMapping("/salary-by-department")
-    public ResponseEntity<Map<Department, BigDecimal>> getTotalSalaryByDepartment() {
+    public ResponseEntity<?> getTotalSalaryByDepartment(@RequestHeader HttpHeaders headers) {
         logger.info("Fetching total salary by department");
         
-        Map<Department, BigDecimal> salaryByDepartment = employeeService.calculateTotalSalaryByDepartment();
-        return ResponseEntity.ok(salaryByDepartment);
+        return aggregate("salary-by-department", headers, employeeService::calculateTotalSalaryByDepartment);
+    }
+    
+    /**
+     * GET /api/employees/department-analytics - Get headcount and salary aggregates per department
+     */
+    @GetMapping("/department-analytics")
+    public ResponseEntity<?> getDepartmentAnalytics(@RequestHeader HttpHeaders headers) {
+        logger.info("Fetching department analytics");
+        
+        return aggregate("department-analytics", headers, employeeService::getDepartmentAnalytics);
     }
     
     /**
      * GET /api/employees/active - Get all active employees
      */
-    @GetMapping("/active")
+    @GetMapping(value = "/active", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.ALL_VALUE})
     public ResponseEntity<List<Employee>> getActiveEmployees() {
         logger.info("Fetching all active employees");
         
@@ -268,6 +632,40 @@ public class EmployeeController {
         return ResponseEntity.ok(employees);
     }
     
+    /**
+     * GET /api/employees/active (Accept: application/x-ndjson) - Stream all active employees
+     */
+    @GetMapping(value = "/active", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamActiveEmployees() {
+        logger.info("Streaming all active employees as NDJSON");
+        
+        return ndjson(employeeService::streamActiveEmployees);
+    }
+    
+    /**
+     * GET /api/employees/export - Stream all employees as a CSV download
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "csv") String format) {
+        
+        logger.info("Exporting employees as {}", format);
+        
+        if (!"csv".equalsIgnoreCase(format)) {
+            throw new InvalidEmployeeDataException("Unsupported export format: " + format);
+        }
+        
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            employeeService.exportEmployeesAsCsv(writer);
+        };
+        
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+    
     /**
      * GET /api/employees/validate-email - Validate unique email
      */
@@ -281,6 +679,135 @@ public class EmployeeController {
         boolean isValid = employeeService.validateUniqueEmail(email, excludeId);
         return ResponseEntity.ok(Map.of("valid", isValid));
     }
+    
+    /**
+     * Split a comma-separated field list, dropping blanks and duplicates; names are validated by the repository
+     */
+    private List<String> parseFields(String fields) {
+        List<String> parsed = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        if (parsed.isEmpty()) {
+            throw new InvalidEmployeeDataException("At least one field must be requested");
+        }
+        return parsed;
+    }
+    
+    private boolean isFullView(String view) {
+        if (VIEW_FULL.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new InvalidEmployeeDataException("Unsupported view: " + view + " (expected 'summary' or 'full')");
+    }
+    
+    /**
+     * Build a page request, rejecting a negative page or an empty page size as bad input
+     */
+    private Pageable pageRequest(int page, int size, Sort sort) {
+        if (page < 0) {
+            throw new InvalidEmployeeDataException("Page index must not be negative");
+        }
+        if (size <= 0) {
+            throw new InvalidEmployeeDataException("Page size must be greater than zero");
+        }
+        return PageRequest.of(page, size, sort);
+    }
+    
+    private Sort.Direction sortDirection(String sortDir) {
+        return sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+    
+    /**
+     * Evaluate If-None-Match and If-Modified-Since against an employee version.
+     * Also writes the ETag and Last-Modified response headers.
+     */
+    private boolean checkNotModified(WebRequest request, Long id, LocalDateTime updatedAt) {
+        return request.checkNotModified(EmployeeEtags.of(id, updatedAt), EmployeeEtags.lastModified(updatedAt));
+    }
+    
+    /**
+     * Serve an aggregate from pre-serialized bytes tagged with the global data version.
+     * The version is read before computing, and the service only shares a computation between
+     * callers that saw the same version, so a body is never older than the version it is cached under.
+     */
+    private ResponseEntity<?> aggregate(String resource, HttpHeaders headers, Supplier<?> body) {
+        if (!prefersJson(headers)) {
+            return ResponseEntity.ok(body.get());
+        }
+        return serialized(headers, responseCache.get(resource, null, dataVersions.global(), body));
+    }
+    
+    /**
+     * Write cached JSON bytes directly, gzipped when the client accepts it
+     */
+    private ResponseEntity<byte[]> serialized(HttpHeaders requestHeaders, SerializedResponse response) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (response.gzip() != null && acceptsGzip(requestHeaders)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzip());
+        }
+        return builder.body(response.json());
+    }
+    
+    /**
+     * Whether the client's most preferred media type is JSON; other types (CBOR, Smile)
+     * go through the regular message converters
+     */
+    private boolean prefersJson(HttpHeaders headers) {
+        try {
+            MediaType preferred = null;
+            for (MediaType mediaType : headers.getAccept()) {
+                if (preferred == null || mediaType.getQualityValue() > preferred.getQualityValue()) {
+                    preferred = mediaType;
+                }
+            }
+            return preferred == null || preferred.isCompatibleWith(MediaType.APPLICATION_JSON);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+    
+    private boolean acceptsGzip(HttpHeaders headers) {
+        String acceptEncoding = headers.getFirst(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Stream the query's rows as NDJSON. The query runs on the async request thread; when the
+     * client disconnects, the failed write aborts the query and closes its database cursor.
+     */
+    private ResponseEntity<StreamingResponseBody> ndjson(StreamingQuery query) {
+        StreamingResponseBody body = outputStream -> {
+            try (EmployeeNdjsonWriter writer = new EmployeeNdjsonWriter(objectMapper, outputStream)) {
+                long rows = query.stream(writer::write);
+                logger.debug("Streamed {} employees as NDJSON", rows);
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.valueOf(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+    
+    @FunctionalInterface
+    private interface StreamingQuery {
+        long stream(EmployeeRowHandler handler) throws IOException;
+    }
 }
 
 
@@ -0,0 +1,49 @@
+package com.employeems.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the per-row results of a batch create request
+ */
+public class BatchCreateResponse {
+    
+    private int created;
+    private int failed;
+    private List<BatchCreateResult> results;
+    
+    public BatchCreateResponse() {
+    }
+    
+    public BatchCreateResponse(List<BatchCreateResult> results) {
+        this.results = results;
+        this.created = (int) results.stream()
+                .filter(result -> result.getOutcome() == BatchCreateResult.Outcome.CREATED)
+                .count();
+        this.failed = results.size() - created;
+    }
+    
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+    
+    public void setCreated(int created) {
+        this.created = created;
+    }
+    
+    public int getFailed() {
+        return failed;
+    }
+    
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+    
+    public List<BatchCreateResult> getResults() {
+        return results;
+    }
+    
+    public void setResults(List<BatchCreateResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,76 @@
+package com.employeems.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a single row of a batch create request
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchCreateResult {
+    
+    public enum Outcome {
+        CREATED,
+        DUPLICATE_EMAIL,
+        INVALID
+    }
+    
+    private int index;
+    private Outcome outcome;
+    private Long id;
+    private String email;
+    private List<String> errors;
+    
+    public BatchCreateResult() {
+    }
+    
+    public BatchCreateResult(int index, Outcome outcome, Long id, String email, List<String> errors) {
+        this.index = index;
+        this.outcome = outcome;
+        this.id = id;
+        this.email = email;
+        this.errors = errors;
+    }
+    
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+    
+    public void setIndex(int index) {
+        this.index = index;
+    }
+    
+    public Outcome getOutcome() {
+        return outcome;
+    }
+    
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public List<String> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
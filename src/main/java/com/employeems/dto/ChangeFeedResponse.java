@@ -0,0 +1,53 @@
+package com.employeems.dto;
+
+import com.employeems.entity.Employee;
+
+import java.util.List;
+
+/**
+ * DTO for a page of the employee change feed with the token to resume from
+ */
+public class ChangeFeedResponse {
+    
+    private List<Employee> changes;
+    private boolean hasMore;
+    private String nextToken;
+    
+    public ChangeFeedResponse() {
+    }
+    
+    public ChangeFeedResponse(List<Employee> changes, boolean hasMore, String nextToken) {
+        this.changes = changes;
+        this.hasMore = hasMore;
+        this.nextToken = nextToken;
+    }
+    
+    // Getters and Setters
+    public List<Employee> getChanges() {
+        return changes;
+    }
+    
+    public void setChanges(List<Employee> changes) {
+        this.changes = changes;
+    }
+    
+    public int getCount() {
+        return changes == null ? 0 : changes.size();
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+    
+    public String getNextToken() {
+        return nextToken;
+    }
+    
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+}
@@ -0,0 +1,92 @@
+package com.employeems.dto;
+
+import com.employeems.enums.Department;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for per-department headcount and salary aggregates.
+ * Salary aggregates cover active employees only.
+ */
+public class DepartmentAnalyticsDTO {
+    
+    private Department department;
+    private long employeeCount;
+    private long activeCount;
+    private BigDecimal totalSalary;
+    private Double avgSalary;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    
+    public DepartmentAnalyticsDTO() {
+    }
+    
+    public DepartmentAnalyticsDTO(Department department, Long employeeCount, Long activeCount,
+                                  BigDecimal totalSalary, Double avgSalary,
+                                  BigDecimal minSalary, BigDecimal maxSalary) {
+        this.department = department;
+        this.employeeCount = employeeCount != null ? employeeCount : 0;
+        this.activeCount = activeCount != null ? activeCount : 0;
+        this.totalSalary = totalSalary != null ? totalSalary : BigDecimal.ZERO;
+        this.avgSalary = avgSalary;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+    }
+    
+    // Getters and Setters
+    public Department getDepartment() {
+        return department;
+    }
+    
+    public void setDepartment(Department department) {
+        this.department = department;
+    }
+    
+    public long getEmployeeCount() {
+        return employeeCount;
+    }
+    
+    public void setEmployeeCount(long employeeCount) {
+        this.employeeCount = employeeCount;
+    }
+    
+    public long getActiveCount() {
+        return activeCount;
+    }
+    
+    public void setActiveCount(long activeCount) {
+        this.activeCount = activeCount;
+    }
+    
+    public BigDecimal getTotalSalary() {
+        return totalSalary;
+    }
+    
+    public void setTotalSalary(BigDecimal totalSalary) {
+        this.totalSalary = totalSalary;
+    }
+    
+    public Double getAvgSalary() {
+        return avgSalary;
+    }
+    
+    public void setAvgSalary(Double avgSalary) {
+        this.avgSalary = avgSalary;
+    }
+    
+    public BigDecimal getMinSalary() {
+        return minSalary;
+    }
+    
+    public void setMinSalary(BigDecimal minSalary) {
+        this.minSalary = minSalary;
+    }
+    
+    public BigDecimal getMaxSalary() {
+        return maxSalary;
+    }
+    
+    public void setMaxSalary(BigDecimal maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+}
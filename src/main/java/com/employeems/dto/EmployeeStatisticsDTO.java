@@ -11,16 +11,18 @@ public class EmployeeStatisticsDTO {
     private long activeEmployees;
     private long inactiveEmployees;
     private Map<String, Object> departmentStats;
+    private Map<String, Long> statusCounts;
     
     public EmployeeStatisticsDTO() {
     }
     
     public EmployeeStatisticsDTO(long totalEmployees, long activeEmployees, long inactiveEmployees, 
-                                Map<String, Object> departmentStats) {
+                                Map<String, Object> departmentStats, Map<String, Long> statusCounts) {
         this.totalEmployees = totalEmployees;
         this.activeEmployees = activeEmployees;
         this.inactiveEmployees = inactiveEmployees;
         this.departmentStats = departmentStats;
+        this.statusCounts = statusCounts;
     }
     
     // Getters and Setters
@@ -55,6 +57,12 @@ public class EmployeeStatisticsDTO {
     public void setDepartmentStats(Map<String, Object> departmentStats) {
         this.departmentStats = departmentStats;
     }
+    
+    public Map<String, Long> getStatusCounts() {
+        return statusCounts;
+    }
+    
+    public void setStatusCounts(Map<String, Long> statusCounts) {
+        this.statusCounts = statusCounts;
+    }
 }
-
-
@@ -0,0 +1,12 @@
+package com.employeems.dto;
+
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+
+/**
+ * Read-only list projection of an employee, selected directly by JPQL constructor expressions
+ * so list queries read fewer columns and never register entities in the persistence context
+ */
+public record EmployeeSummary(Long id, String firstName, String lastName, String email,
+                              Department department, String position, EmployeeStatus status) {
+}
@@ -23,13 +23,15 @@ import java.util.Objects;
     @Index(name = "idx_employee_email", columnList = "email", unique = true),
     @Index(name = "idx_employee_department", columnList = "department"),
     @Index(name = "idx_employee_status", columnList = "status"),
-    @Index(name = "idx_employee_hire_date", columnList = "hire_date")
+    @Index(name = "idx_employee_hire_date", columnList = "hire_date"),
+    @Index(name = "idx_employee_updated_at", columnList = "updated_at, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Employee {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employees_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "First name is required")
@@ -107,6 +109,23 @@ public class Employee {
         this.hireDate = hireDate;
     }
     
+    // Copy constructor (detached snapshot of all persistent fields)
+    public Employee(Employee other) {
+        this.id = other.id;
+        this.firstName = other.firstName;
+        this.lastName = other.lastName;
+        this.email = other.email;
+        this.phoneNumber = other.phoneNumber;
+        this.department = other.department;
+        this.position = other.position;
+        this.salary = other.salary;
+        this.hireDate = other.hireDate;
+        this.status = other.status;
+        this.isActive = other.isActive;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
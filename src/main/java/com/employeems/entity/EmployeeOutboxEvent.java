@@ -0,0 +1,85 @@
+package com.employeems.entity;
+
+import com.employeems.events.EmployeeChangeEvent;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Employee change waiting in the transactional outbox to be published by the relay.
+ * Rows are written in the same transaction as the change and deleted once published.
+ */
+@Entity
+@Table(name = "employee_outbox")
+public class EmployeeOutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_outbox_seq")
+    @SequenceGenerator(name = "employee_outbox_seq", sequenceName = "employee_outbox_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private EmployeeChangeEvent.Type type;
+    
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // Default constructor
+    public EmployeeOutboxEvent() {
+    }
+    
+    public EmployeeOutboxEvent(Long employeeId, EmployeeChangeEvent.Type type, String payload) {
+        this.employeeId = employeeId;
+        this.type = type;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+    
+    public EmployeeChangeEvent.Type getType() {
+        return type;
+    }
+    
+    public void setType(EmployeeChangeEvent.Type type) {
+        this.type = type;
+    }
+    
+    public String getPayload() {
+        return payload;
+    }
+    
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.employeems.events;
+
+import com.employeems.entity.Employee;
+
+/**
+ * A committed change to one employee, carrying a detached snapshot of the employee after the change
+ */
+public record EmployeeChangeEvent(Type type, Long employeeId, Employee employee) {
+    
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+    
+    /**
+     * Combine this event with a later one for the same employee: the later snapshot wins,
+     * but an employee created and then updated within the same window is still reported as created
+     */
+    public EmployeeChangeEvent coalesce(EmployeeChangeEvent next) {
+        if (type == Type.CREATED && next.type() == Type.UPDATED) {
+            return new EmployeeChangeEvent(Type.CREATED, next.employeeId(), next.employee());
+        }
+        return next;
+    }
+}
@@ -0,0 +1,17 @@
+package com.employeems.events;
+
+import java.util.List;
+
+/**
+ * In-process consumer of committed employee changes, fed by {@link OutboxRelay}.
+ * Delivery is at-least-once: events are redelivered to a subscriber that throws, so handling
+ * the same event twice must be harmless; events it keeps failing on are eventually skipped.
+ * Events for one employee arrive in commit order.
+ */
+public interface EmployeeChangeSubscriber {
+    
+    /**
+     * Handle a batch of changes, oldest first
+     */
+    void onChanges(List<EmployeeChangeEvent> events);
+}
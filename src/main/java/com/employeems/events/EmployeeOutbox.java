@@ -0,0 +1,90 @@
+package com.employeems.events;
+
+import com.employeems.entity.Employee;
+import com.employeems.entity.EmployeeOutboxEvent;
+import com.employeems.repository.EmployeeOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Transactional outbox of employee changes. Writers append in their own transaction, so an
+ * event exists exactly when its change committed; {@link OutboxRelay} reads and deletes them.
+ */
+@Component
+public class EmployeeOutbox {
+    
+    private final EmployeeOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Autowired
+    public EmployeeOutbox(EmployeeOutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Append one event per employee to the caller's transaction. Employees must already be flushed
+     * so the snapshot carries the committed updatedAt.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(EmployeeChangeEvent.Type type, Collection<Employee> employees) {
+        List<EmployeeOutboxEvent> events = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            events.add(new EmployeeOutboxEvent(employee.getId(), type, toJson(employee)));
+        }
+        outboxRepository.saveAll(events);
+    }
+    
+    /**
+     * Read the oldest pending events
+     */
+    @Transactional(readOnly = true)
+    public List<PendingEvent> pending(int limit) {
+        List<EmployeeOutboxEvent> rows = outboxRepository.findPending(PageRequest.of(0, limit));
+        List<PendingEvent> events = new ArrayList<>(rows.size());
+        for (EmployeeOutboxEvent row : rows) {
+            events.add(new PendingEvent(row.getId(),
+                    new EmployeeChangeEvent(row.getType(), row.getEmployeeId(), fromJson(row.getPayload()))));
+        }
+        return events;
+    }
+    
+    /**
+     * Remove events once every subscriber has handled them
+     */
+    @Transactional
+    public void remove(Collection<Long> outboxIds) {
+        outboxRepository.deleteAllByIdInBatch(outboxIds);
+    }
+    
+    private String toJson(Employee employee) {
+        try {
+            return objectMapper.writeValueAsString(employee);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize employee " + employee.getId(), e);
+        }
+    }
+    
+    private Employee fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, Employee.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read outbox payload", e);
+        }
+    }
+    
+    /**
+     * An outbox row and the change it carries
+     */
+    public record PendingEvent(Long outboxId, EmployeeChangeEvent event) {
+    }
+}
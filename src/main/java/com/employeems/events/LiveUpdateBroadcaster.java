@@ -0,0 +1,312 @@
+package com.employeems.events;
+
+import com.employeems.dto.EmployeeStatisticsDTO;
+import com.employeems.entity.Employee;
+import com.employeems.index.EmployeeStatisticsStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed employee changes, received from the outbox relay, to Server-Sent Events subscribers.
+ * Subscribers are async requests, so idle connections hold no request thread. Changes are
+ * coalesced per employee and flushed once per interval as a single event carrying the changed
+ * rows and a fresh statistics snapshot; the payload is serialized once for all subscribers.
+ * A periodic comment line keeps idle connections open through proxies and detects closed ones.
+ * Writes happen on a dedicated sender pool, never on the scheduler that also runs the outbox relay.
+ * Each subscriber has a small bounded queue of frames; a subscriber that falls so far behind that
+ * its queue is full is dropped, so one slow client cannot hold back the others. The blocking write
+ * itself runs on a separate writer pool and a sender waits for it only up to a deadline, so a client
+ * that stops reading is dropped without pinning a sender thread.
+ */
+@Component
+public class LiveUpdateBroadcaster implements EmployeeChangeSubscriber {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LiveUpdateBroadcaster.class);
+    
+    private static final String CHANGES_EVENT = "changes";
+    
+    private final EmployeeStatisticsStore statisticsStore;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final long reconnectMillis;
+    private final int maxQueuedEvents;
+    private final long sendTimeoutMillis;
+    private final ExecutorService sender;
+    private final ExecutorService writer;
+    private final Counter dropped;
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, EmployeeChangeEvent> pending = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public LiveUpdateBroadcaster(EmployeeStatisticsStore statisticsStore,
+                                 ObjectMapper objectMapper,
+                                 @Value("${employeems.live.timeout-ms:1800000}") long timeoutMillis,
+                                 @Value("${employeems.live.reconnect-ms:3000}") long reconnectMillis,
+                                 @Value("${employeems.live.max-queued-events:16}") int maxQueuedEvents,
+                                 @Value("${employeems.live.sender-threads:4}") int senderThreads,
+                                 @Value("${employeems.live.send-timeout-ms:5000}") long sendTimeoutMillis,
+                                 MeterRegistry meterRegistry) {
+        this.statisticsStore = statisticsStore;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.reconnectMillis = reconnectMillis;
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("live-sender-"));
+        // At most one write per subscriber is in flight, so this only grows by the writes stuck on stalled clients
+        this.writer = Executors.newCachedThreadPool(new CustomizableThreadFactory("live-writer-"));
+        this.dropped = Counter.builder("employees.live.dropped")
+                .description("Subscribers disconnected for falling behind")
+                .register(meterRegistry);
+        Gauge.builder("employees.live.subscribers", subscribers, Map::size).register(meterRegistry);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        writer.shutdownNow();
+    }
+    
+    /**
+     * Register a new subscriber; it is dropped when the connection completes, times out or fails
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.put(emitter, subscriber);
+        
+        subscriber.enqueue(SseEmitter.event().reconnectTime(reconnectMillis).comment("connected").build());
+        return emitter;
+    }
+    
+    /**
+     * Queue committed changes for the next flush, replacing any queued change to the same employee
+     */
+    @Override
+    public void onChanges(List<EmployeeChangeEvent> events) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (EmployeeChangeEvent event : events) {
+            pending.merge(event.employeeId(), event, EmployeeChangeEvent::coalesce);
+        }
+    }
+    
+    /**
+     * Send all changes queued since the last flush as one event
+     */
+    @Scheduled(fixedDelayString = "${employeems.live.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        
+        List<LiveChange> changes = new ArrayList<>();
+        for (Long id : pending.keySet()) {
+            EmployeeChangeEvent event = pending.remove(id);
+            if (event != null) {
+                changes.add(LiveChange.of(event));
+            }
+        }
+        if (changes.isEmpty() || subscribers.isEmpty()) {
+            return;
+        }
+        
+        EmployeeStatisticsDTO statistics = statisticsStore.isReady() ? statisticsStore.snapshot() : null;
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(new LiveUpdate(changes, statistics));
+        } catch (JsonProcessingException e) {
+            logger.error("Could not serialize live update", e);
+            return;
+        }
+        
+        logger.debug("Pushing {} employee changes to {} subscribers", changes.size(), subscribers.size());
+        broadcast(SseEmitter.event().name(CHANGES_EVENT).data(payload));
+    }
+    
+    /**
+     * Keep idle connections alive and prune subscribers whose connection has gone away
+     */
+    @Scheduled(fixedRateString = "${employeems.live.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        broadcast(SseEmitter.event().comment("heartbeat"));
+    }
+    
+    /**
+     * Build the event once and queue the same frames for every subscriber
+     */
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> frames = event.build();
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.enqueue(frames);
+        }
+    }
+    
+    /**
+     * One connection's queue of pending frames. At most one sender task drains it at a time,
+     * so frames reach the client in order.
+     */
+    private final class Subscriber implements Runnable {
+        
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean slow;
+        
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(maxQueuedEvents);
+        }
+        
+        void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> frames) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(frames)) {
+                logger.debug("Dropping live update subscriber that fell {} events behind", maxQueuedEvents);
+                dropped.increment();
+                slow = true;
+                close();
+            }
+            schedule();
+        }
+        
+        /**
+         * Stop sending to this connection; the emitter itself has completed or failed
+         */
+        void close() {
+            closed = true;
+            subscribers.remove(emitter);
+            queue.clear();
+        }
+        
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+        
+        @Override
+        public void run() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> frames;
+                while (!closed && (frames = queue.poll()) != null) {
+                    send(frames);
+                }
+                if (slow) {
+                    slow = false;
+                    end();
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (slow || (!closed && !queue.isEmpty())) {
+                schedule();
+            }
+        }
+        
+        /**
+         * Write one event on the writer pool and wait at most the send timeout for it. A write that
+         * does not finish in time means the client stopped reading: the subscriber is dropped and the
+         * blocked write is left to fail on the container's write timeout, holding a writer thread only.
+         */
+        private void send(Set<ResponseBodyEmitter.DataWithMediaType> frames) {
+            Future<Void> write;
+            try {
+                write = writer.submit(() -> {
+                    emitter.send(frames);
+                    return null;
+                });
+            } catch (RejectedExecutionException e) {
+                close();
+                return;
+            }
+            
+            try {
+                write.get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                logger.debug("Dropping live update subscriber whose write has been blocked for {} ms", sendTimeoutMillis);
+                dropped.increment();
+                close();
+                end();
+            } catch (ExecutionException e) {
+                close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+            }
+        }
+        
+        /**
+         * Complete the response on the writer pool, once any write still in progress has returned
+         */
+        private void end() {
+            try {
+                writer.execute(emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the container completes the request
+            }
+        }
+    }
+    
+    /**
+     * The fields the list page and dashboards display, with enum display names resolved
+     */
+    private record LiveChange(EmployeeChangeEvent.Type type, Long id, String fullName, String email,
+                              String department, String departmentName, String position,
+                              BigDecimal salary, String status, String statusName, Boolean isActive) {
+        
+        static LiveChange of(EmployeeChangeEvent event) {
+            Employee employee = event.employee();
+            return new LiveChange(event.type(), event.employeeId(), employee.getFullName(), employee.getEmail(),
+                    employee.getDepartment() == null ? null : employee.getDepartment().name(),
+                    employee.getDepartment() == null ? null : employee.getDepartment().getDisplayName(),
+                    employee.getPosition(), employee.getSalary(),
+                    employee.getStatus() == null ? null : employee.getStatus().name(),
+                    employee.getStatus() == null ? null : employee.getStatus().getDisplayName(),
+                    employee.getIsActive());
+        }
+    }
+    
+    private record LiveUpdate(List<LiveChange> changes, EmployeeStatisticsDTO statistics) {
+    }
+}
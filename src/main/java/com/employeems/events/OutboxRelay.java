@@ -0,0 +1,151 @@
+package com.employeems.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Background relay that publishes outbox events to every {@link EmployeeChangeSubscriber} in batches.
+ * Runs on a single scheduler thread in outbox order, so changes to one employee are delivered in
+ * commit order. Delivery is tracked per subscriber: when one subscriber fails, only that subscriber
+ * is retried, with exponential backoff, and the others are not handed the batch again. After
+ * {@code max-attempts} failures the subscriber skips the events, which are logged and counted as
+ * dead-lettered. A batch is removed once every subscriber has handled or skipped it.
+ */
+@Component
+public class OutboxRelay {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    
+    private final EmployeeOutbox outbox;
+    private final List<EmployeeChangeSubscriber> subscribers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Map<EmployeeChangeSubscriber, Delivery> deliveries = new IdentityHashMap<>();
+    private final Counter published;
+    private final Counter failures;
+    private final Counter deadLettered;
+    
+    @Autowired
+    public OutboxRelay(EmployeeOutbox outbox,
+                       List<EmployeeChangeSubscriber> subscribers,
+                       @Value("${employeems.outbox.batch-size:500}") int batchSize,
+                       @Value("${employeems.outbox.max-attempts:5}") int maxAttempts,
+                       @Value("${employeems.outbox.initial-backoff-ms:1000}") long initialBackoffMillis,
+                       @Value("${employeems.outbox.max-backoff-ms:30000}") long maxBackoffMillis,
+                       MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.subscribers = subscribers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        subscribers.forEach(subscriber -> deliveries.put(subscriber, new Delivery()));
+        this.published = Counter.builder("employees.outbox.published").register(meterRegistry);
+        this.failures = Counter.builder("employees.outbox.failures").register(meterRegistry);
+        this.deadLettered = Counter.builder("employees.outbox.dead_lettered").register(meterRegistry);
+    }
+    
+    /**
+     * Drain the outbox, one batch at a time, until it is empty or a batch is still owed to a subscriber
+     */
+    @Scheduled(fixedDelayString = "${employeems.outbox.poll-interval-ms:200}")
+    public void relay() {
+        List<EmployeeOutbox.PendingEvent> batch;
+        do {
+            batch = outbox.pending(batchSize);
+            if (batch.isEmpty() || !deliver(batch)) {
+                return;
+            }
+            List<Long> outboxIds = batch.stream()
+                    .map(EmployeeOutbox.PendingEvent::outboxId)
+                    .collect(Collectors.toList());
+            outbox.remove(outboxIds);
+            deliveries.values().forEach(delivery -> outboxIds.forEach(delivery.handled::remove));
+            published.increment(batch.size());
+        } while (batch.size() == batchSize);
+    }
+    
+    /**
+     * Hand each subscriber the events of the batch it has not handled yet.
+     * Returns whether every subscriber has now handled or skipped the whole batch.
+     */
+    private boolean deliver(List<EmployeeOutbox.PendingEvent> batch) {
+        long now = System.currentTimeMillis();
+        boolean delivered = true;
+        for (EmployeeChangeSubscriber subscriber : subscribers) {
+            Delivery delivery = deliveries.get(subscriber);
+            List<EmployeeOutbox.PendingEvent> unhandled = batch.stream()
+                    .filter(pending -> !delivery.handled.contains(pending.outboxId()))
+                    .collect(Collectors.toList());
+            if (unhandled.isEmpty()) {
+                continue;
+            }
+            if (now < delivery.retryAt) {
+                delivered = false;
+                continue;
+            }
+            
+            try {
+                subscriber.onChanges(unhandled.stream()
+                        .map(EmployeeOutbox.PendingEvent::event)
+                        .collect(Collectors.toList()));
+                delivery.handled(unhandled);
+            } catch (RuntimeException e) {
+                failures.increment();
+                String name = subscriber.getClass().getSimpleName();
+                if (delivery.failedAttempts + 1 >= maxAttempts) {
+                    logger.error("Subscriber {} failed {} times on outbox events {}; skipping them", name,
+                            maxAttempts, unhandled.stream().map(EmployeeOutbox.PendingEvent::outboxId)
+                                    .collect(Collectors.toList()), e);
+                    deadLettered.increment(unhandled.size());
+                    delivery.handled(unhandled);
+                } else {
+                    long backoff = delivery.failed(now, initialBackoffMillis, maxBackoffMillis);
+                    logger.warn("Subscriber {} failed on {} outbox events; retrying in {} ms",
+                            name, unhandled.size(), backoff, e);
+                    delivered = false;
+                }
+            }
+        }
+        return delivered;
+    }
+    
+    /**
+     * Relay-thread-only delivery state of one subscriber: outbox events it has handled that are
+     * still in the outbox, and its retry schedule after consecutive failures
+     */
+    private static final class Delivery {
+        
+        private final Set<Long> handled = new HashSet<>();
+        private int failedAttempts;
+        private long retryAt;
+        
+        void handled(List<EmployeeOutbox.PendingEvent> events) {
+            events.forEach(pending -> handled.add(pending.outboxId()));
+            failedAttempts = 0;
+            retryAt = 0;
+        }
+        
+        long failed(long now, long initialBackoffMillis, long maxBackoffMillis) {
+            long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(failedAttempts, 30));
+            failedAttempts++;
+            retryAt = now + backoff;
+            return backoff;
+        }
+    }
+}
@@ -13,8 +13,11 @@ public class EmployeeNotFoundException extends RuntimeException {
         super(message, cause);
     }
     
+    /**
+     * Lookup misses are an expected outcome, so no stack trace is captured
+     */
     public EmployeeNotFoundException(Long employeeId) {
-        super("Employee not found with ID: " + employeeId);
+        super("Employee not found with ID: " + employeeId, null, false, false);
     }
 }
 
@@ -30,7 +30,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleEmployeeNotFoundException(
             EmployeeNotFoundException ex, WebRequest request) {
         
-        logger.error("Employee not found: {}", ex.getMessage());
+        logger.debug("Employee not found: {}", ex.getMessage());
         
         ErrorResponse errorResponse = new ErrorResponse(
                 ex.getMessage(),
@@ -80,6 +80,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
     
+    /**
+     * Handle PreconditionFailedException
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+            PreconditionFailedException ex, WebRequest request) {
+        
+        logger.info("Precondition failed: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getMessage(),
+                "Precondition Failed",
+                HttpStatus.PRECONDITION_FAILED.value(),
+                request.getDescription(false)
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+    
     /**
      * Handle validation errors
      */
@@ -0,0 +1,11 @@
+package com.employeems.exception;
+
+/**
+ * Exception thrown when a conditional write no longer matches the current employee version
+ */
+public class PreconditionFailedException extends RuntimeException {
+    
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,158 @@
+package com.employeems.index;
+
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmap indexes over department, status and isActive, keyed by a dense per-employee ordinal.
+ * A filter combination is evaluated as a bitwise AND of word-packed bitmaps, which yields both
+ * the exact match count and the matching IDs without a COUNT(*) query.
+ */
+@Component
+public class BitmapIndex implements EmployeeIndex {
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] ids = new long[1024];
+    
+    private final BitSet present = new BitSet();
+    private final BitSet active = new BitSet();
+    private final BitSet[] departments = newBitSets(Department.values().length);
+    private final BitSet[] statuses = newBitSets(EmployeeStatus.values().length);
+    
+    private volatile boolean ready;
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            ordinals.clear();
+            ids = new long[1024];
+            present.clear();
+            active.clear();
+            Arrays.stream(departments).forEach(BitSet::clear);
+            Arrays.stream(statuses).forEach(BitSet::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void index(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(employee.getId());
+            if (ordinal == null) {
+                ordinal = ordinals.size();
+                ordinals.put(employee.getId(), ordinal);
+                if (ordinal == ids.length) {
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                }
+                ids[ordinal] = employee.getId();
+            }
+            
+            present.set(ordinal);
+            active.set(ordinal, Boolean.TRUE.equals(employee.getIsActive()));
+            for (Department department : Department.values()) {
+                departments[department.ordinal()].set(ordinal, department == employee.getDepartment());
+            }
+            for (EmployeeStatus status : EmployeeStatus.values()) {
+                statuses[status.ordinal()].set(ordinal, status == employee.getStatus());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+    
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Bitmap of employees matching every non-null filter; the result is a private copy
+     */
+    public BitSet match(Department department, EmployeeStatus status, Boolean isActive) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) present.clone();
+            if (department != null) {
+                result.and(departments[department.ordinal()]);
+            }
+            if (status != null) {
+                result.and(statuses[status.ordinal()]);
+            }
+            if (isActive != null) {
+                if (isActive) {
+                    result.and(active);
+                } else {
+                    result.andNot(active);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Bitmap of the given employee IDs, for intersecting with other filters
+     */
+    public BitSet toBitmap(Collection<Long> employeeIds) {
+        lock.readLock().lock();
+        try {
+            BitSet result = new BitSet(ordinals.size());
+            for (Long id : employeeIds) {
+                Integer ordinal = ordinals.get(id);
+                if (ordinal != null) {
+                    result.set(ordinal);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Employee IDs for the set bits of a bitmap, in ordinal order
+     */
+    public long[] toIds(BitSet bitmap) {
+        lock.readLock().lock();
+        try {
+            long[] result = new long[bitmap.cardinality()];
+            int i = 0;
+            for (int ordinal = bitmap.nextSetBit(0); ordinal >= 0; ordinal = bitmap.nextSetBit(ordinal + 1)) {
+                result[i++] = ids[ordinal];
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private static BitSet[] newBitSets(int count) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+}
@@ -0,0 +1,168 @@
+package com.employeems.index;
+
+import com.employeems.entity.Employee;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over normalized (trimmed, lower-cased) employee emails.
+ * A negative answer proves no employee has the email, so the uniqueness query can be skipped;
+ * a positive answer must still be confirmed in the database. Bits are never cleared, so
+ * changed emails only add false positives, never false negatives.
+ */
+@Component
+public class EmailBloomFilter implements EmployeeIndex {
+    
+    private final int numBits;
+    private final int numHashes;
+    private final AtomicLongArray bits;
+    private final AtomicLong setBits = new AtomicLong();
+    
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong negatives = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    
+    private volatile boolean ready;
+    
+    @Autowired
+    public EmailBloomFilter(@Value("${employeems.email-bloom.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${employeems.email-bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                            MeterRegistry meterRegistry) {
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.min(Math.max(optimalBits, 64), Integer.MAX_VALUE - 63);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((numBits + 63) / 64);
+        
+        Gauge.builder("employees.email.bloom.fpp", this, EmailBloomFilter::expectedFalsePositiveRate)
+                .description("Estimated false-positive probability of the email Bloom filter")
+                .register(meterRegistry);
+        Gauge.builder("employees.email.bloom.hit.rate", this, EmailBloomFilter::hitRate)
+                .description("Share of email uniqueness checks answered without a database query")
+                .register(meterRegistry);
+        Gauge.builder("employees.email.bloom.observed.fpp", this, EmailBloomFilter::observedFalsePositiveRate)
+                .description("Share of absent emails the filter reported as possibly present")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public void clear() {
+        ready = false;
+        for (int i = 0; i < bits.length(); i++) {
+            bits.set(i, 0L);
+        }
+        setBits.set(0);
+    }
+    
+    @Override
+    public void index(Employee employee) {
+        if (employee.getEmail() == null) {
+            return;
+        }
+        
+        long hash = hash(normalize(employee.getEmail()));
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = bitIndex(h1 + i * h2);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+            if ((current & mask) == 0) {
+                setBits.incrementAndGet();
+            }
+        }
+    }
+    
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+    
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Whether an employee might have the given email; {@code false} is definitive
+     */
+    public boolean mightContain(String email) {
+        checks.incrementAndGet();
+        
+        long hash = hash(normalize(email));
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = bitIndex(h1 + i * h2);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                negatives.incrementAndGet();
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Record the database outcome of a check the filter reported as possibly present
+     */
+    public void recordConfirmation(boolean exists) {
+        if (!exists) {
+            falsePositives.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Estimated false-positive probability from the current bit occupancy
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.get() / numBits, numHashes);
+    }
+    
+    public double hitRate() {
+        long total = checks.get();
+        return total == 0 ? 0.0 : (double) negatives.get() / total;
+    }
+    
+    public double observedFalsePositiveRate() {
+        long absent = negatives.get() + falsePositives.get();
+        return absent == 0 ? 0.0 : (double) falsePositives.get() / absent;
+    }
+    
+    private int bitIndex(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % numBits;
+    }
+    
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, finished with a SplitMix64 avalanche step
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,29 @@
+package com.employeems.index;
+
+import com.employeems.entity.Employee;
+
+/**
+ * In-memory secondary index over employees, maintained by {@link EmployeeIndexMaintainer}
+ */
+public interface EmployeeIndex {
+    
+    /**
+     * Drop all indexed entries before a full rebuild
+     */
+    void clear();
+    
+    /**
+     * Insert or replace the entry for the given employee
+     */
+    void index(Employee employee);
+    
+    /**
+     * Mark the index as fully built and ready to answer queries
+     */
+    void markReady();
+    
+    /**
+     * Whether the index has completed its initial build
+     */
+    boolean isReady();
+}
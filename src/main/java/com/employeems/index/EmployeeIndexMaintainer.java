@@ -0,0 +1,128 @@
+package com.employeems.index;
+
+import com.employeems.cache.DataVersions;
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Builds all {@link EmployeeIndex} beans at startup and keeps them in sync with committed writes
+ */
+@Component
+public class EmployeeIndexMaintainer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeIndexMaintainer.class);
+    
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    
+    private final EmployeeRepository employeeRepository;
+    private final List<EmployeeIndex> indexes;
+    private final DataVersions dataVersions;
+    
+    // Committed updates that arrive while a rebuild is paging through the table, guarded by this
+    private final List<Employee> pendingDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+    
+    @Autowired
+    public EmployeeIndexMaintainer(EmployeeRepository employeeRepository, List<EmployeeIndex> indexes,
+                                   DataVersions dataVersions) {
+        this.employeeRepository = employeeRepository;
+        this.indexes = indexes;
+        this.dataVersions = dataVersions;
+    }
+    
+    /**
+     * Build every index once the application (including the data loader) has started.
+     * Updates committed while the rebuild runs are buffered and replayed after the last page,
+     * so an older page snapshot can never overwrite a newer committed change.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        logger.info("Building {} in-memory employee indexes", indexes.size());
+        long start = System.currentTimeMillis();
+        
+        synchronized (this) {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+            indexes.forEach(EmployeeIndex::clear);
+        }
+        
+        long count = 0;
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("id"));
+        Page<Employee> page;
+        do {
+            page = employeeRepository.findAll(pageable);
+            for (Employee employee : page) {
+                indexes.forEach(index -> index.index(employee));
+            }
+            count += page.getNumberOfElements();
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+        
+        synchronized (this) {
+            apply(pendingDuringRebuild);
+            logger.info("Replayed {} employee updates committed during the rebuild", pendingDuringRebuild.size());
+            pendingDuringRebuild.clear();
+            rebuilding = false;
+            indexes.forEach(EmployeeIndex::markReady);
+        }
+        // Rows loaded before the rebuild bypassed the service, so anything cached from them is stale
+        dataVersions.bump(EnumSet.allOf(Department.class));
+        logger.info("Indexed {} employees in {} ms", count, System.currentTimeMillis() - start);
+    }
+    
+    /**
+     * Apply the given employees to every index once the current transaction commits
+     */
+    public void indexAfterCommit(Collection<Employee> employees) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indexNow(employees);
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indexNow(employees);
+            }
+        });
+    }
+    
+    /**
+     * Apply a single employee to every index once the current transaction commits
+     */
+    public void indexAfterCommit(Employee employee) {
+        indexAfterCommit(List.of(employee));
+    }
+    
+    private synchronized void indexNow(Collection<Employee> employees) {
+        if (rebuilding) {
+            pendingDuringRebuild.addAll(employees);
+            return;
+        }
+        apply(employees);
+    }
+    
+    private void apply(Collection<Employee> employees) {
+        for (Employee employee : employees) {
+            indexes.forEach(index -> index.index(employee));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.employeems.index;
+
+import com.employeems.dto.EmployeeStatisticsDTO;
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Incrementally maintained employee aggregates.
+ * Each employee's last contribution is remembered so that an update or soft delete
+ * subtracts the old values before adding the new ones, keeping every counter exact
+ * without re-running COUNT or GROUP BY queries.
+ */
+@Component
+public class EmployeeStatisticsStore implements EmployeeIndex {
+    
+    private static final int DEPARTMENTS = Department.values().length;
+    private static final int STATUSES = EmployeeStatus.values().length;
+    
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    
+    private long totalCount;
+    private long activeCount;
+    private final long[] departmentCounts = new long[DEPARTMENTS];
+    private final long[] activeDepartmentCounts = new long[DEPARTMENTS];
+    private final BigDecimal[] activeDepartmentSalaries = new BigDecimal[DEPARTMENTS];
+    private final long[] statusCounts = new long[STATUSES];
+    
+    private volatile boolean ready;
+    
+    public EmployeeStatisticsStore() {
+        resetCounters();
+    }
+    
+    @Override
+    public synchronized void clear() {
+        ready = false;
+        contributions.clear();
+        resetCounters();
+    }
+    
+    @Override
+    public synchronized void index(Employee employee) {
+        Contribution contribution = new Contribution(
+                employee.getDepartment(),
+                employee.getStatus(),
+                Boolean.TRUE.equals(employee.getIsActive()),
+                employee.getSalary() != null ? employee.getSalary() : BigDecimal.ZERO);
+        
+        Contribution previous = contributions.put(employee.getId(), contribution);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        apply(contribution, 1);
+    }
+    
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+    
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Build the statistics DTO from the current counters.
+     * Department statistics cover active employees only, matching the GROUP BY query they replace;
+     * status counts cover all employees, with every status present.
+     */
+    public synchronized EmployeeStatisticsDTO snapshot() {
+        Map<String, Object> departmentStats = new LinkedHashMap<>();
+        for (Department department : Department.values()) {
+            long count = activeDepartmentCounts[department.ordinal()];
+            if (count > 0) {
+                BigDecimal avgSalary = activeDepartmentSalaries[department.ordinal()]
+                        .divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+                departmentStats.put(department.name(), Map.of("count", count, "avgSalary", avgSalary));
+            }
+        }
+        
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        for (EmployeeStatus status : EmployeeStatus.values()) {
+            statuses.put(status.name(), statusCounts[status.ordinal()]);
+        }
+        
+        return new EmployeeStatisticsDTO(totalCount, activeCount, totalCount - activeCount, departmentStats, statuses);
+    }
+    
+    /**
+     * Headcount per department over all employees, active or not, with every department present
+     */
+    public synchronized Map<Department, Long> departmentCounts() {
+        Map<Department, Long> counts = new EnumMap<>(Department.class);
+        for (Department department : Department.values()) {
+            counts.put(department, departmentCounts[department.ordinal()]);
+        }
+        return counts;
+    }
+    
+    private void apply(Contribution contribution, int sign) {
+        totalCount += sign;
+        if (contribution.department() != null) {
+            departmentCounts[contribution.department().ordinal()] += sign;
+        }
+        if (contribution.status() != null) {
+            statusCounts[contribution.status().ordinal()] += sign;
+        }
+        if (contribution.active()) {
+            activeCount += sign;
+            if (contribution.department() != null) {
+                int d = contribution.department().ordinal();
+                activeDepartmentCounts[d] += sign;
+                activeDepartmentSalaries[d] = sign > 0
+                        ? activeDepartmentSalaries[d].add(contribution.salary())
+                        : activeDepartmentSalaries[d].subtract(contribution.salary());
+            }
+        }
+    }
+    
+    private void resetCounters() {
+        totalCount = 0;
+        activeCount = 0;
+        for (int i = 0; i < DEPARTMENTS; i++) {
+            departmentCounts[i] = 0;
+            activeDepartmentCounts[i] = 0;
+            activeDepartmentSalaries[i] = BigDecimal.ZERO;
+        }
+        for (int i = 0; i < STATUSES; i++) {
+            statusCounts[i] = 0;
+        }
+    }
+    
+    private record Contribution(Department department, EmployeeStatus status, boolean active, BigDecimal salary) {
+    }
+}
@@ -0,0 +1,162 @@
+package com.employeems.index;
+
+import com.employeems.entity.Employee;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Range index over active employees' salary (as long cents) and hire date (as epoch day).
+ * Both are held as sorted primitive arrays with parallel ID arrays, so range lookups are
+ * two binary searches with no boxing or {@link BigDecimal} comparisons.
+ */
+@Component
+public class RangeIndex implements EmployeeIndex {
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Keys> activeKeys = new HashMap<>();
+    
+    private SortedLongIndex salaries = new SortedLongIndex();
+    private SortedLongIndex hireDates = new SortedLongIndex();
+    
+    private volatile boolean ready;
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            activeKeys.clear();
+            salaries = new SortedLongIndex();
+            hireDates = new SortedLongIndex();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void index(Employee employee) {
+        Keys keys = Boolean.TRUE.equals(employee.getIsActive()) && employee.getHireDate() != null
+                ? new Keys(SalaryCents.toCents(employee.getSalary()), employee.getHireDate().toEpochDay())
+                : null;
+        
+        lock.writeLock().lock();
+        try {
+            Keys previous = keys != null
+                    ? activeKeys.put(employee.getId(), keys)
+                    : activeKeys.remove(employee.getId());
+            
+            // During the initial build only the key map is filled; arrays are sorted once in markReady
+            if (!ready) {
+                return;
+            }
+            if (previous != null) {
+                salaries.remove(previous.salaryCents(), employee.getId());
+                hireDates.remove(previous.hireEpochDay(), employee.getId());
+            }
+            if (keys != null) {
+                salaries.insert(keys.salaryCents(), employee.getId());
+                hireDates.insert(keys.hireEpochDay(), employee.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            int size = activeKeys.size();
+            long[] ids = new long[size];
+            long[] salaryKeys = new long[size];
+            long[] hireDateKeys = new long[size];
+            
+            int i = 0;
+            for (Map.Entry<Long, Keys> entry : activeKeys.entrySet()) {
+                ids[i] = entry.getKey();
+                salaryKeys[i] = entry.getValue().salaryCents();
+                hireDateKeys[i] = entry.getValue().hireEpochDay();
+                i++;
+            }
+            
+            salaries = SortedLongIndex.of(salaryKeys, ids, size);
+            hireDates = SortedLongIndex.of(hireDateKeys, ids, size);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * IDs of active employees with {@code min <= salary <= max}, ordered by salary
+     */
+    public long[] idsBySalaryRange(BigDecimal min, BigDecimal max) {
+        return idsBySalaryRange(min, max, 0, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * One page of {@link #idsBySalaryRange(BigDecimal, BigDecimal)}
+     */
+    public long[] idsBySalaryRange(BigDecimal min, BigDecimal max, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return salaries.ids(SalaryCents.toBoundCents(min, RoundingMode.CEILING),
+                    SalaryCents.toBoundCents(max, RoundingMode.FLOOR), offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int countBySalaryRange(BigDecimal min, BigDecimal max) {
+        lock.readLock().lock();
+        try {
+            return salaries.count(SalaryCents.toBoundCents(min, RoundingMode.CEILING),
+                    SalaryCents.toBoundCents(max, RoundingMode.FLOOR));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * IDs of active employees hired between the two dates (inclusive), ordered by hire date
+     */
+    public long[] idsByHireDateRange(LocalDate start, LocalDate end) {
+        return idsByHireDateRange(start, end, 0, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * One page of {@link #idsByHireDateRange(LocalDate, LocalDate)}
+     */
+    public long[] idsByHireDateRange(LocalDate start, LocalDate end, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return hireDates.ids(start.toEpochDay(), end.toEpochDay(), offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int countByHireDateRange(LocalDate start, LocalDate end) {
+        lock.readLock().lock();
+        try {
+            return hireDates.count(start.toEpochDay(), end.toEpochDay());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private record Keys(long salaryCents, long hireEpochDay) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.employeems.index;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversions between {@link BigDecimal} salaries and whole cents for primitive-keyed indexes
+ */
+public final class SalaryCents {
+    
+    private static final BigDecimal MIN_CENTS = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_CENTS = BigDecimal.valueOf(Long.MAX_VALUE);
+    
+    private SalaryCents() {
+    }
+    
+    public static long toCents(BigDecimal salary) {
+        return toCents(salary, RoundingMode.HALF_UP);
+    }
+    
+    /**
+     * Convert to cents, rounding fractional cents with the given mode (CEILING for inclusive
+     * lower bounds, FLOOR for inclusive upper bounds)
+     */
+    public static long toCents(BigDecimal salary, RoundingMode roundingMode) {
+        if (salary == null) {
+            return 0L;
+        }
+        return salary.movePointRight(2).setScale(0, roundingMode).longValueExact();
+    }
+    
+    /**
+     * Convert a range bound to cents like {@link #toCents(BigDecimal, RoundingMode)}, saturating
+     * at the long range instead of overflowing, since a bound may be any number a client sends
+     */
+    public static long toBoundCents(BigDecimal bound, RoundingMode roundingMode) {
+        if (bound == null) {
+            return 0L;
+        }
+        BigDecimal cents = bound.movePointRight(2).setScale(0, roundingMode);
+        if (cents.compareTo(MAX_CENTS) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (cents.compareTo(MIN_CENTS) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return cents.longValue();
+    }
+    
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
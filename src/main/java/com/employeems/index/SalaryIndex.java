@@ -0,0 +1,127 @@
+package com.employeems.index;
+
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Ordered salary index answering top-K queries without sorting the table.
+ * One sorted set per scope (all employees, active only, and both per department) is kept
+ * in salary-descending order, so the top K of any scope is the first K entries.
+ * An update removes the old entry and adds the new one under the write lock, so a reader
+ * never sees an employee missing mid-update.
+ */
+@Component
+public class SalaryIndex implements EmployeeIndex {
+    
+    private static final Comparator<Entry> HIGHEST_FIRST = Comparator
+            .comparingLong(Entry::cents).reversed()
+            .thenComparingLong(Entry::id);
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<NavigableSet<Entry>> scopes = new ArrayList<>();
+    private final Map<Long, Indexed> indexed = new HashMap<>();
+    
+    private volatile boolean ready;
+    
+    public SalaryIndex() {
+        for (int i = 0; i < (Department.values().length + 1) * 2; i++) {
+            scopes.add(new TreeSet<>(HIGHEST_FIRST));
+        }
+    }
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            indexed.clear();
+            scopes.forEach(NavigableSet::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void index(Employee employee) {
+        Indexed current = new Indexed(
+                new Entry(SalaryCents.toCents(employee.getSalary()), employee.getId()),
+                employee.getDepartment(),
+                Boolean.TRUE.equals(employee.getIsActive()));
+        
+        lock.writeLock().lock();
+        try {
+            Indexed previous = indexed.put(employee.getId(), current);
+            if (previous != null) {
+                forEachScope(previous, scope -> scope.remove(previous.entry()));
+            }
+            forEachScope(current, scope -> scope.add(current.entry()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+    
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * IDs of the {@code limit} highest-paid employees, optionally restricted to a department
+     * and to active employees, highest salary first with ties broken by ID
+     */
+    public List<Long> topPaid(int limit, Department department, boolean activeOnly) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, 1024));
+        lock.readLock().lock();
+        try {
+            Iterator<Entry> iterator = scope(department, activeOnly).iterator();
+            while (ids.size() < limit && iterator.hasNext()) {
+                ids.add(iterator.next().id());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+    
+    private void forEachScope(Indexed value, Consumer<NavigableSet<Entry>> action) {
+        action.accept(scope(null, false));
+        if (value.department() != null) {
+            action.accept(scope(value.department(), false));
+        }
+        if (value.active()) {
+            action.accept(scope(null, true));
+            if (value.department() != null) {
+                action.accept(scope(value.department(), true));
+            }
+        }
+    }
+    
+    private NavigableSet<Entry> scope(Department department, boolean activeOnly) {
+        int slot = department == null ? 0 : department.ordinal() + 1;
+        return scopes.get(slot * 2 + (activeOnly ? 1 : 0));
+    }
+    
+    private record Entry(long cents, long id) {
+    }
+    
+    private record Indexed(Entry entry, Department department, boolean active) {
+    }
+}
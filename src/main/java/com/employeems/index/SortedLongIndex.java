@@ -0,0 +1,197 @@
+package com.employeems.index;
+
+import java.util.Arrays;
+
+/**
+ * Sorted primitive (key, id) pairs held in parallel arrays and searched with binary search.
+ * Not thread-safe; callers guard access.
+ */
+class SortedLongIndex {
+    
+    private long[] keys;
+    private long[] ids;
+    private int size;
+    
+    SortedLongIndex() {
+        this(16);
+    }
+    
+    SortedLongIndex(int capacity) {
+        keys = new long[Math.max(capacity, 16)];
+        ids = new long[Math.max(capacity, 16)];
+    }
+    
+    /**
+     * Build an index from unsorted pairs in O(n log n)
+     */
+    static SortedLongIndex of(long[] keys, long[] ids, int size) {
+        SortedLongIndex index = new SortedLongIndex(size);
+        System.arraycopy(keys, 0, index.keys, 0, size);
+        System.arraycopy(ids, 0, index.ids, 0, size);
+        index.size = size;
+        index.sort(0, size - 1);
+        return index;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    void insert(long key, long id) {
+        int position = search(key, id);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        keys[position] = key;
+        ids[position] = id;
+        size++;
+    }
+    
+    void remove(long key, long id) {
+        int position = search(key, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+    
+    /**
+     * Number of entries with {@code from <= key <= to}
+     */
+    int count(long from, long to) {
+        if (from > to) {
+            return 0;
+        }
+        return upperBound(to) - lowerBound(from);
+    }
+    
+    /**
+     * IDs of entries with {@code from <= key <= to}, in key order
+     */
+    long[] ids(long from, long to) {
+        return ids(from, to, 0, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * IDs of entries with {@code from <= key <= to}, in key order, skipping the first {@code offset}
+     * and returning at most {@code limit}
+     */
+    long[] ids(long from, long to, long offset, int limit) {
+        if (from > to) {
+            return new long[0];
+        }
+        int end = upperBound(to);
+        long start = lowerBound(from) + offset;
+        if (start >= end) {
+            return new long[0];
+        }
+        return Arrays.copyOfRange(ids, (int) start, (int) Math.min(end, start + limit));
+    }
+    
+    /**
+     * First position whose key is {@code >= key}
+     */
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * First position whose key is {@code > key}
+     */
+    private int upperBound(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * Binary search for an exact (key, id) pair, returning {@code -(insertionPoint + 1)} when absent
+     */
+    private int search(long key, long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(keys[mid], ids[mid], key, id);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+    
+    private void sort(int low, int high) {
+        while (low < high) {
+            int i = low;
+            int j = high;
+            int mid = (low + high) >>> 1;
+            long pivotKey = keys[mid];
+            long pivotId = ids[mid];
+            while (i <= j) {
+                while (compare(keys[i], ids[i], pivotKey, pivotId) < 0) {
+                    i++;
+                }
+                while (compare(keys[j], ids[j], pivotKey, pivotId) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            // Recurse into the smaller half to bound stack depth
+            if (j - low < high - i) {
+                sort(low, j);
+                low = i;
+            } else {
+                sort(i, high);
+                high = j;
+            }
+        }
+    }
+    
+    private void swap(int a, int b) {
+        long key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+    }
+    
+    private static int compare(long key1, long id1, long key2, long id2) {
+        int cmp = Long.compare(key1, key2);
+        return cmp != 0 ? cmp : Long.compare(id1, id2);
+    }
+}
@@ -0,0 +1,174 @@
+package com.employeems.index;
+
+import com.employeems.entity.Employee;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram inverted index over first name, last name, email and position.
+ * Answers case-insensitive substring searches without a LIKE '%keyword%' table scan:
+ * candidate ids are the intersection of the keyword's trigram posting lists, and each
+ * candidate is then verified against the indexed text.
+ */
+@Component
+public class TrigramSearchIndex implements EmployeeIndex {
+    
+    private static final int GRAM_LENGTH = 3;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedEmployee> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    
+    private volatile boolean ready;
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            documents.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void index(Employee employee) {
+        IndexedEmployee document = new IndexedEmployee(
+                normalize(employee.getFirstName()),
+                normalize(employee.getLastName()),
+                normalize(employee.getEmail()),
+                normalize(employee.getPosition()));
+        
+        lock.writeLock().lock();
+        try {
+            IndexedEmployee previous = documents.put(employee.getId(), document);
+            if (previous != null) {
+                for (String gram : previous.trigrams()) {
+                    Set<Long> ids = postings.get(gram);
+                    if (ids != null && ids.remove(employee.getId()) && ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            for (String gram : document.trigrams()) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(employee.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+    
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Find the ids of employees whose first name, last name, email or position contains
+     * the keyword (case-insensitive), ordered by first name, last name and id
+     */
+    public List<Long> search(String keyword) {
+        return search(keyword, true);
+    }
+    
+    /**
+     * Same as {@link #search(String)}, optionally ignoring matches that occur only in the position
+     */
+    public List<Long> search(String keyword, boolean includePosition) {
+        String needle = normalize(keyword);
+        
+        lock.readLock().lock();
+        try {
+            List<Long> matches = new ArrayList<>();
+            for (Long id : candidates(needle)) {
+                if (documents.get(id).contains(needle, includePosition)) {
+                    matches.add(id);
+                }
+            }
+            matches.sort(Comparator.comparing((Long id) -> documents.get(id).firstName())
+                    .thenComparing(id -> documents.get(id).lastName())
+                    .thenComparing(Comparator.naturalOrder()));
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Intersect the posting lists of every trigram in the keyword, smallest list first.
+     * Keywords shorter than a trigram cannot be served by postings and fall back to all documents.
+     */
+    private Collection<Long> candidates(String needle) {
+        if (needle.length() < GRAM_LENGTH) {
+            return documents.keySet();
+        }
+        
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : trigrams(needle)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        
+        List<Long> result = new ArrayList<>();
+        outer:
+        for (Long id : lists.get(0)) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) {
+                    continue outer;
+                }
+            }
+            result.add(id);
+        }
+        return result;
+    }
+    
+    private static Set<String> trigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+    
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    private record IndexedEmployee(String firstName, String lastName, String email, String position) {
+        
+        boolean contains(String needle, boolean includePosition) {
+            return firstName.contains(needle) || lastName.contains(needle)
+                    || email.contains(needle) || (includePosition && position.contains(needle));
+        }
+        
+        Set<String> trigrams() {
+            Set<String> grams = TrigramSearchIndex.trigrams(firstName);
+            grams.addAll(TrigramSearchIndex.trigrams(lastName));
+            grams.addAll(TrigramSearchIndex.trigrams(email));
+            grams.addAll(TrigramSearchIndex.trigrams(position));
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.employeems.journal;
+
+import com.employeems.entity.Employee;
+import com.employeems.events.EmployeeChangeEvent;
+import com.employeems.events.EmployeeChangeSubscriber;
+import com.employeems.exception.InvalidEmployeeDataException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Append-only audit journal of employee changes in memory-mapped segment files.
+ * It is an outbox subscriber, so journaling is write-behind and adds nothing to the write path;
+ * each relayed batch is appended and then forced to disk once (group fsync). A segment that
+ * cannot fit the next record is sealed and a new one started. Replay, tail and per-employee
+ * history are read from the segments alone, never from the primary database.
+ */
+@Component
+public class ChangeJournal implements EmployeeChangeSubscriber {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ChangeJournal.class);
+    
+    private final Path directory;
+    private final int segmentSize;
+    private final ObjectMapper objectMapper;
+    private final List<SegmentView> sealed = new ArrayList<>();
+    
+    private JournalSegment active;
+    private volatile View view = new View(List.of(), 0);
+    
+    @Autowired
+    public ChangeJournal(@Value("${employeems.journal.dir:data/journal}") String directory,
+                         @Value("${employeems.journal.segment-size-bytes:67108864}") int segmentSize,
+                         ObjectMapper objectMapper) {
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Map existing segments and reopen the newest one after its last intact record
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(path -> path.getFileName().toString().endsWith(JournalSegment.SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        
+        for (int i = 0; i < segments.size() - 1; i++) {
+            Path path = segments.get(i);
+            ByteBuffer buffer = JournalSegment.mapReadOnly(path);
+            sealed.add(new SegmentView(JournalSegment.firstSequence(path), buffer, buffer.capacity()));
+        }
+        active = segments.isEmpty()
+                ? JournalSegment.create(directory, 1, segmentSize)
+                : JournalSegment.recover(segments.get(segments.size() - 1));
+        publishView();
+        
+        logger.info("Opened change journal in {} at sequence {} ({} segments)",
+                directory.toAbsolutePath(), active.lastSequence(), sealed.size() + 1);
+    }
+    
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        active.close();
+    }
+    
+    /**
+     * Append a relayed batch and force it to disk once
+     */
+    @Override
+    public synchronized void onChanges(List<EmployeeChangeEvent> events) {
+        try {
+            long recordedAt = System.currentTimeMillis();
+            for (EmployeeChangeEvent event : events) {
+                byte[] json = objectMapper.writeValueAsBytes(event.employee());
+                long sequence = active.lastSequence() + 1;
+                if (!active.append(sequence, recordedAt, event.type(), event.employeeId(), json)) {
+                    roll(JournalSegment.recordBytes(json.length) + JournalSegment.TERMINATOR_BYTES);
+                    active.append(sequence, recordedAt, event.type(), event.employeeId(), json);
+                }
+            }
+            active.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to change journal", e);
+        }
+        publishView();
+    }
+    
+    /**
+     * Replay up to {@code limit} records starting at the given sequence
+     */
+    public List<JournalRecord> replay(long fromSequence, int limit) {
+        if (limit <= 0) {
+            throw new InvalidEmployeeDataException("Limit must be greater than zero");
+        }
+        
+        List<JournalRecord> records = new ArrayList<>();
+        List<SegmentView> segments = view.segments();
+        for (int i = 0; i < segments.size() && records.size() < limit; i++) {
+            if (i + 1 < segments.size() && segments.get(i + 1).firstSequence() <= fromSequence) {
+                continue;
+            }
+            SegmentView segment = segments.get(i);
+            JournalSegment.scan(segment.buffer(), segment.end(), entry -> {
+                if (entry.sequence() >= fromSequence) {
+                    records.add(toRecord(entry));
+                }
+                return records.size() < limit;
+            });
+        }
+        return records;
+    }
+    
+    /**
+     * The most recent {@code count} records, oldest first
+     */
+    public List<JournalRecord> tail(int count) {
+        if (count <= 0) {
+            throw new InvalidEmployeeDataException("Count must be greater than zero");
+        }
+        return replay(Math.max(1, view.lastSequence() - count + 1), count);
+    }
+    
+    /**
+     * Every recorded state of one employee, oldest first. Redelivered duplicates of the same
+     * change (the relay is at-least-once) are collapsed.
+     */
+    public List<JournalRecord> history(Long employeeId) {
+        List<JournalRecord> records = new ArrayList<>();
+        for (SegmentView segment : view.segments()) {
+            JournalSegment.scan(segment.buffer(), segment.end(), entry -> {
+                if (entry.employeeId() == employeeId) {
+                    JournalRecord record = toRecord(entry);
+                    if (records.isEmpty() || !isDuplicate(records.get(records.size() - 1), record)) {
+                        records.add(record);
+                    }
+                }
+                return true;
+            });
+        }
+        return records;
+    }
+    
+    public long lastSequence() {
+        return view.lastSequence();
+    }
+    
+    /**
+     * Seal the active segment and start a new one large enough for at least the pending record
+     */
+    private void roll(int minimumSize) throws IOException {
+        // The mapping stays readable after its channel is closed
+        active.close();
+        sealed.add(new SegmentView(active.firstSequence(), active.readOnlyView(), active.position()));
+        long nextSequence = active.lastSequence() + 1;
+        active = JournalSegment.create(directory, nextSequence, Math.max(segmentSize, minimumSize));
+        logger.info("Rolled change journal to a new segment at sequence {}", nextSequence);
+    }
+    
+    /**
+     * Publish a consistent snapshot for readers: sealed segments plus the flushed part of the active one
+     */
+    private void publishView() {
+        List<SegmentView> segments = new ArrayList<>(sealed);
+        segments.add(new SegmentView(active.firstSequence(), active.readOnlyView(), active.position()));
+        view = new View(List.copyOf(segments), active.lastSequence());
+    }
+    
+    private JournalRecord toRecord(JournalSegment.Entry entry) {
+        try {
+            Employee employee = objectMapper.readValue(entry.jsonBytes(), Employee.class);
+            return new JournalRecord(entry.sequence(), Instant.ofEpochMilli(entry.recordedAt()), entry.type(),
+                    entry.employeeId(), employee);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read journal record " + entry.sequence(), e);
+        }
+    }
+    
+    private static boolean isDuplicate(JournalRecord previous, JournalRecord next) {
+        return previous.type() == next.type()
+                && Objects.equals(previous.employee().getUpdatedAt(), next.employee().getUpdatedAt());
+    }
+    
+    private record SegmentView(long firstSequence, ByteBuffer buffer, int end) {
+    }
+    
+    private record View(List<SegmentView> segments, long lastSequence) {
+    }
+}
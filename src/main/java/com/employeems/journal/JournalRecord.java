@@ -0,0 +1,13 @@
+package com.employeems.journal;
+
+import com.employeems.entity.Employee;
+import com.employeems.events.EmployeeChangeEvent;
+
+import java.time.Instant;
+
+/**
+ * A journaled employee change: its journal sequence, when it was journaled, and the employee after the change
+ */
+public record JournalRecord(long sequence, Instant recordedAt, EmployeeChangeEvent.Type type,
+                            Long employeeId, Employee employee) {
+}
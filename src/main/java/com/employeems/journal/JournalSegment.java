@@ -0,0 +1,204 @@
+package com.employeems.journal;
+
+import com.employeems.events.EmployeeChangeEvent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * One memory-mapped journal segment file, named after the sequence of its first record.
+ * Records are laid out back to back as {@code [length][crc32][body]}, where the body is
+ * {@code [sequence][recordedAt millis][type][employee id][employee JSON]}. The word after the
+ * last record is always zero, and the length is written last, so readers and crash recovery
+ * stop cleanly at the first zero length, out-of-range length or checksum mismatch.
+ */
+final class JournalSegment implements Closeable {
+    
+    static final String SUFFIX = ".journal";
+    static final int HEADER_BYTES = 8;
+    static final int FIXED_BODY_BYTES = 25;
+    static final int TERMINATOR_BYTES = 4;
+    
+    private static final EmployeeChangeEvent.Type[] TYPES = EmployeeChangeEvent.Type.values();
+    
+    private final long firstSequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int position;
+    private int flushedPosition;
+    private long lastSequence;
+    
+    private JournalSegment(long firstSequence, FileChannel channel, MappedByteBuffer buffer) {
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.lastSequence = firstSequence - 1;
+    }
+    
+    /**
+     * Create and map a new, empty segment starting at the given sequence
+     */
+    static JournalSegment create(Path directory, long firstSequence, int size) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(fileName(firstSequence)),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalSegment(firstSequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+    
+    /**
+     * Reopen an existing segment for appending, positioned after its last intact record
+     */
+    static JournalSegment recover(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        JournalSegment segment = new JournalSegment(firstSequence(path), channel,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        segment.position = scan(segment.buffer, segment.buffer.capacity(), entry -> {
+            segment.lastSequence = entry.sequence();
+            return true;
+        });
+        segment.flushedPosition = segment.position;
+        if (segment.position + TERMINATOR_BYTES <= segment.buffer.capacity()) {
+            // Clear a torn record left by a crash so it cannot be mistaken for data later
+            segment.buffer.putInt(segment.position, 0);
+        }
+        return segment;
+    }
+    
+    /**
+     * Map a segment read-only, for segments that are no longer appended to
+     */
+    static ByteBuffer mapReadOnly(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+    
+    static String fileName(long firstSequence) {
+        return String.format("%020d%s", firstSequence, SUFFIX);
+    }
+    
+    static long firstSequence(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+    
+    static int recordBytes(int jsonLength) {
+        return HEADER_BYTES + FIXED_BODY_BYTES + jsonLength;
+    }
+    
+    /**
+     * Append a record, or return false when it does not fit and the segment must be rolled
+     */
+    boolean append(long sequence, long recordedAt, EmployeeChangeEvent.Type type, long employeeId, byte[] json) {
+        int bodyLength = FIXED_BODY_BYTES + json.length;
+        int end = position + HEADER_BYTES + bodyLength;
+        if (end + TERMINATOR_BYTES > buffer.capacity()) {
+            return false;
+        }
+        
+        int body = position + HEADER_BYTES;
+        buffer.putInt(end, 0);
+        buffer.putLong(body, sequence);
+        buffer.putLong(body + 8, recordedAt);
+        buffer.put(body + 16, (byte) type.ordinal());
+        buffer.putLong(body + 17, employeeId);
+        buffer.put(body + FIXED_BODY_BYTES, json);
+        
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(body, bodyLength));
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.putInt(position, bodyLength);
+        
+        position = end;
+        lastSequence = sequence;
+        return true;
+    }
+    
+    /**
+     * Force records appended since the last flush to disk
+     */
+    void flush() {
+        if (position > flushedPosition) {
+            buffer.force(flushedPosition, position - flushedPosition + TERMINATOR_BYTES);
+            flushedPosition = position;
+        }
+    }
+    
+    /**
+     * Read-only view of the segment's mapping; readers bound it by {@link #position()}
+     */
+    ByteBuffer readOnlyView() {
+        return buffer.asReadOnlyBuffer();
+    }
+    
+    long firstSequence() {
+        return firstSequence;
+    }
+    
+    long lastSequence() {
+        return lastSequence;
+    }
+    
+    int position() {
+        return position;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+    
+    /**
+     * Visit intact records from the start of the buffer up to {@code limit}, returning the offset
+     * just past the last record visited. The visitor returns false to stop early.
+     */
+    static int scan(ByteBuffer buffer, int limit, Visitor visitor) {
+        CRC32 crc = new CRC32();
+        int offset = 0;
+        while (offset + HEADER_BYTES <= limit) {
+            int length = buffer.getInt(offset);
+            if (length < FIXED_BODY_BYTES || length > limit - offset - HEADER_BYTES) {
+                break;
+            }
+            
+            int body = offset + HEADER_BYTES;
+            crc.reset();
+            crc.update(buffer.slice(body, length));
+            int typeOrdinal = buffer.get(body + 16);
+            if ((int) crc.getValue() != buffer.getInt(offset + 4) || typeOrdinal < 0 || typeOrdinal >= TYPES.length) {
+                break;
+            }
+            
+            Entry entry = new Entry(buffer.getLong(body), buffer.getLong(body + 8), TYPES[typeOrdinal],
+                    buffer.getLong(body + 17), buffer.slice(body + FIXED_BODY_BYTES, length - FIXED_BODY_BYTES));
+            offset = body + length;
+            if (!visitor.visit(entry)) {
+                break;
+            }
+        }
+        return offset;
+    }
+    
+    /**
+     * A decoded record header with a view of its employee JSON
+     */
+    record Entry(long sequence, long recordedAt, EmployeeChangeEvent.Type type, long employeeId, ByteBuffer json) {
+        
+        byte[] jsonBytes() {
+            byte[] bytes = new byte[json.remaining()];
+            json.duplicate().get(bytes);
+            return bytes;
+        }
+    }
+    
+    @FunctionalInterface
+    interface Visitor {
+        boolean visit(Entry entry);
+    }
+}
@@ -0,0 +1,235 @@
+package com.employeems.json;
+
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hand-written streaming JSON codec for {@link Employee}, registered with Boot's ObjectMapper
+ * (and therefore with the JSON, CBOR and Smile message converters).
+ * Field names and enum names are pre-encoded once, fields are written in a fixed order without
+ * bean introspection, and the document is identical to Jackson's default bean output.
+ */
+@JsonComponent
+public class EmployeeJsonComponent {
+    
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString PHONE_NUMBER = new SerializedString("phoneNumber");
+    private static final SerializedString DEPARTMENT = new SerializedString("department");
+    private static final SerializedString POSITION = new SerializedString("position");
+    private static final SerializedString SALARY = new SerializedString("salary");
+    private static final SerializedString HIRE_DATE = new SerializedString("hireDate");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString IS_ACTIVE = new SerializedString("isActive");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString FULL_NAME = new SerializedString("fullName");
+    private static final SerializedString TENURE_IN_YEARS = new SerializedString("tenureInYears");
+    private static final SerializedString TENURE_IN_MONTHS = new SerializedString("tenureInMonths");
+    
+    private static final Map<Department, SerializableString> DEPARTMENT_NAMES = encodedNames(Department.class);
+    private static final Map<EmployeeStatus, SerializableString> STATUS_NAMES = encodedNames(EmployeeStatus.class);
+    private static final Map<String, Department> DEPARTMENTS_BY_NAME = byName(Department.class);
+    private static final Map<String, EmployeeStatus> STATUSES_BY_NAME = byName(EmployeeStatus.class);
+    
+    private static final int ISO_DATE_LENGTH = 10;
+    
+    public static class Serializer extends JsonSerializer<Employee> {
+        
+        @Override
+        public void serialize(Employee employee, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(employee);
+            
+            gen.writeFieldName(ID);
+            if (employee.getId() != null) {
+                gen.writeNumber(employee.getId());
+            } else {
+                gen.writeNull();
+            }
+            writeString(gen, FIRST_NAME, employee.getFirstName());
+            writeString(gen, LAST_NAME, employee.getLastName());
+            writeString(gen, EMAIL, employee.getEmail());
+            writeString(gen, PHONE_NUMBER, employee.getPhoneNumber());
+            writeEncoded(gen, DEPARTMENT, employee.getDepartment() != null
+                    ? DEPARTMENT_NAMES.get(employee.getDepartment()) : null);
+            writeString(gen, POSITION, employee.getPosition());
+            
+            gen.writeFieldName(SALARY);
+            if (employee.getSalary() != null) {
+                JsonNumbers.writeDecimal(gen, employee.getSalary());
+            } else {
+                gen.writeNull();
+            }
+            
+            writeString(gen, HIRE_DATE, employee.getHireDate() != null
+                    ? employee.getHireDate().toString() : null);
+            writeEncoded(gen, STATUS, employee.getStatus() != null
+                    ? STATUS_NAMES.get(employee.getStatus()) : null);
+            
+            gen.writeFieldName(IS_ACTIVE);
+            if (employee.getIsActive() != null) {
+                gen.writeBoolean(employee.getIsActive());
+            } else {
+                gen.writeNull();
+            }
+            
+            writeString(gen, CREATED_AT, employee.getCreatedAt() != null
+                    ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(employee.getCreatedAt()) : null);
+            writeString(gen, UPDATED_AT, employee.getUpdatedAt() != null
+                    ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(employee.getUpdatedAt()) : null);
+            writeString(gen, FULL_NAME, employee.getFullName());
+            
+            gen.writeFieldName(TENURE_IN_YEARS);
+            gen.writeNumber(employee.getTenureInYears());
+            gen.writeFieldName(TENURE_IN_MONTHS);
+            gen.writeNumber(employee.getTenureInMonths());
+            
+            gen.writeEndObject();
+        }
+        
+        private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+            gen.writeFieldName(name);
+            if (value != null) {
+                gen.writeString(value);
+            } else {
+                gen.writeNull();
+            }
+        }
+        
+        private static void writeEncoded(JsonGenerator gen, SerializableString name,
+                                         SerializableString value) throws IOException {
+            gen.writeFieldName(name);
+            if (value != null) {
+                gen.writeString(value);
+            } else {
+                gen.writeNull();
+            }
+        }
+    }
+    
+    /**
+     * Reads the same document back. Common token shapes are decoded inline; anything else
+     * (coercions, malformed values) is delegated to Jackson's standard deserializers so the
+     * accepted input and the error messages stay the same as for bean deserialization.
+     */
+    public static class Deserializer extends JsonDeserializer<Employee> {
+        
+        @Override
+        public Employee deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME) {
+                return (Employee) ctxt.handleUnexpectedToken(Employee.class, p);
+            }
+            
+            Employee employee = new Employee();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String name = p.currentName();
+                p.nextToken();
+                switch (name) {
+                    case "id" -> employee.setId(p.currentToken() == JsonToken.VALUE_NUMBER_INT
+                            ? Long.valueOf(p.getLongValue()) : read(p, ctxt, Long.class));
+                    case "firstName" -> employee.setFirstName(readString(p, ctxt));
+                    case "lastName" -> employee.setLastName(readString(p, ctxt));
+                    case "email" -> employee.setEmail(readString(p, ctxt));
+                    case "phoneNumber" -> employee.setPhoneNumber(readString(p, ctxt));
+                    case "department" -> employee.setDepartment(readEnum(p, ctxt, DEPARTMENTS_BY_NAME, Department.class));
+                    case "position" -> employee.setPosition(readString(p, ctxt));
+                    case "salary" -> employee.setSalary(p.currentToken().isNumeric()
+                            ? p.getDecimalValue() : read(p, ctxt, BigDecimal.class));
+                    case "hireDate" -> employee.setHireDate(readDate(p, ctxt));
+                    case "status" -> employee.setStatus(readEnum(p, ctxt, STATUSES_BY_NAME, EmployeeStatus.class));
+                    case "isActive" -> employee.setIsActive(p.currentToken().isBoolean()
+                            ? Boolean.valueOf(p.getBooleanValue()) : read(p, ctxt, Boolean.class));
+                    case "createdAt" -> employee.setCreatedAt(readDateTime(p, ctxt));
+                    case "updatedAt" -> employee.setUpdatedAt(readDateTime(p, ctxt));
+                    // Derived, read-only properties
+                    case "fullName", "tenureInYears", "tenureInMonths" -> p.skipChildren();
+                    default -> ctxt.handleUnknownProperty(p, this, Employee.class, name);
+                }
+            }
+            return employee;
+        }
+        
+        private static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return p.currentToken() == JsonToken.VALUE_STRING ? p.getText() : read(p, ctxt, String.class);
+        }
+        
+        private static <E extends Enum<E>> E readEnum(JsonParser p, DeserializationContext ctxt,
+                                                      Map<String, E> byName, Class<E> type) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_STRING) {
+                E value = byName.get(p.getText());
+                if (value != null) {
+                    return value;
+                }
+            }
+            return read(p, ctxt, type);
+        }
+        
+        private static LocalDate readDate(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_STRING && p.getTextLength() == ISO_DATE_LENGTH) {
+                try {
+                    return LocalDate.parse(p.getText(), DateTimeFormatter.ISO_LOCAL_DATE);
+                } catch (DateTimeParseException e) {
+                    // fall through to the standard deserializer for its error reporting
+                }
+            }
+            return read(p, ctxt, LocalDate.class);
+        }
+        
+        private static LocalDateTime readDateTime(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_STRING) {
+                try {
+                    return LocalDateTime.parse(p.getText(), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                } catch (DateTimeParseException e) {
+                    // fall through to the standard deserializer, which accepts more shapes
+                }
+            }
+            return read(p, ctxt, LocalDateTime.class);
+        }
+        
+        private static <T> T read(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+            return p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, type);
+        }
+    }
+    
+    private static <E extends Enum<E>> Map<E, SerializableString> encodedNames(Class<E> type) {
+        Map<E, SerializableString> names = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            names.put(value, new SerializedString(value.name()));
+        }
+        return names;
+    }
+    
+    private static <E extends Enum<E>> Map<String, E> byName(Class<E> type) {
+        Map<String, E> values = new HashMap<>();
+        for (E value : type.getEnumConstants()) {
+            values.put(value.name(), value);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,66 @@
+package com.employeems.json;
+
+import com.employeems.dto.EmployeeStatisticsDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Streaming JSON serializer for {@link EmployeeStatisticsDTO}. The nested department
+ * statistics are written directly for the number types they contain.
+ */
+@JsonComponent
+public class EmployeeStatisticsJsonSerializer extends JsonSerializer<EmployeeStatisticsDTO> {
+    
+    private static final SerializedString TOTAL_EMPLOYEES = new SerializedString("totalEmployees");
+    private static final SerializedString ACTIVE_EMPLOYEES = new SerializedString("activeEmployees");
+    private static final SerializedString INACTIVE_EMPLOYEES = new SerializedString("inactiveEmployees");
+    private static final SerializedString DEPARTMENT_STATS = new SerializedString("departmentStats");
+    private static final SerializedString STATUS_COUNTS = new SerializedString("statusCounts");
+    
+    @Override
+    public void serialize(EmployeeStatisticsDTO statistics, JsonGenerator gen,
+                          SerializerProvider provider) throws IOException {
+        gen.writeStartObject(statistics);
+        gen.writeFieldName(TOTAL_EMPLOYEES);
+        gen.writeNumber(statistics.getTotalEmployees());
+        gen.writeFieldName(ACTIVE_EMPLOYEES);
+        gen.writeNumber(statistics.getActiveEmployees());
+        gen.writeFieldName(INACTIVE_EMPLOYEES);
+        gen.writeNumber(statistics.getInactiveEmployees());
+        gen.writeFieldName(DEPARTMENT_STATS);
+        writeValue(gen, provider, statistics.getDepartmentStats());
+        gen.writeFieldName(STATUS_COUNTS);
+        writeValue(gen, provider, statistics.getStatusCounts());
+        gen.writeEndObject();
+    }
+    
+    private void writeValue(JsonGenerator gen, SerializerProvider provider, Object value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof Map<?, ?> map) {
+            gen.writeStartObject(map);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                gen.writeFieldName(String.valueOf(entry.getKey()));
+                writeValue(gen, provider, entry.getValue());
+            }
+            gen.writeEndObject();
+        } else if (value instanceof Long number) {
+            gen.writeNumber(number);
+        } else if (value instanceof Integer number) {
+            gen.writeNumber(number);
+        } else if (value instanceof BigDecimal number) {
+            JsonNumbers.writeDecimal(gen, number);
+        } else if (value instanceof Double number) {
+            gen.writeNumber(number);
+        } else {
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.employeems.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Writes {@link BigDecimal} values without going through {@link BigDecimal#toString()}
+ */
+final class JsonNumbers {
+    
+    private static final int MAX_LONG_DIGITS = 19;
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    
+    private JsonNumbers() {
+    }
+    
+    /**
+     * Write a decimal as a JSON number. Values whose unscaled value fits in a long and whose
+     * {@code toString()} form is plain (no exponent) are formatted straight from the unscaled
+     * digits into a char buffer; everything else falls back to the generator.
+     * The output is identical to {@link JsonGenerator#writeNumber(BigDecimal)}.
+     * Only text JSON generators take the char buffer path: binary generators (CBOR, Smile) would
+     * encode the characters as a string or a double, so they get the {@link BigDecimal} itself.
+     */
+    static void writeDecimal(JsonGenerator gen, BigDecimal value) throws IOException {
+        int scale = value.scale();
+        BigInteger unscaled = value.unscaledValue();
+        if (!(gen instanceof JsonGeneratorImpl) || scale < 0 || unscaled.bitLength() > 63 || unscaled.equals(LONG_MIN)
+                || value.precision() - scale - 1 < -6) {
+            gen.writeNumber(value);
+            return;
+        }
+        
+        long digits = unscaled.longValue();
+        boolean negative = digits < 0;
+        if (negative) {
+            digits = -digits;
+        }
+        
+        // sign + up to 19 digits + leading "0." and zero padding for scales beyond the digit count
+        char[] buffer = new char[MAX_LONG_DIGITS + scale + 3];
+        int pos = buffer.length;
+        int written = 0;
+        do {
+            if (written == scale && scale > 0) {
+                buffer[--pos] = '.';
+            }
+            buffer[--pos] = (char) ('0' + (digits % 10));
+            digits /= 10;
+            written++;
+        } while (digits > 0 || written <= scale);
+        if (negative) {
+            buffer[--pos] = '-';
+        }
+        
+        gen.writeNumber(buffer, pos, buffer.length - pos);
+    }
+}
@@ -0,0 +1,70 @@
+package com.employeems.repository;
+
+import com.employeems.entity.Employee;
+import com.employeems.exception.InvalidEmployeeDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque change feed position: the {@code updatedAt} and ID of the last change a client has seen.
+ * Changes are ordered by (updatedAt, id), so the position only ever moves forward.
+ */
+public final class ChangeToken {
+    
+    private static final String SEPARATOR = "\n";
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    
+    private final LocalDateTime updatedAt;
+    private final Long lastId;
+    
+    public ChangeToken(LocalDateTime updatedAt, Long lastId) {
+        this.updatedAt = updatedAt;
+        this.lastId = lastId;
+    }
+    
+    /**
+     * Position before every change, used for an initial full sync
+     */
+    public static ChangeToken initial() {
+        return new ChangeToken(ORIGIN, 0L);
+    }
+    
+    /**
+     * Position just past the given employee
+     */
+    public static ChangeToken after(Employee employee) {
+        return new ChangeToken(employee.getUpdatedAt(), employee.getId());
+    }
+    
+    /**
+     * Decode a token previously produced by {@link #encode()}
+     */
+    public static ChangeToken decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new InvalidEmployeeDataException("Invalid change token");
+            }
+            return new ChangeToken(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidEmployeeDataException("Invalid change token", e);
+        }
+    }
+    
+    public String encode() {
+        String raw = updatedAt + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public Long getLastId() {
+        return lastId;
+    }
+}
@@ -0,0 +1,20 @@
+package com.employeems.repository;
+
+import com.employeems.entity.EmployeeOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for the employee change outbox
+ */
+@Repository
+public interface EmployeeOutboxRepository extends JpaRepository<EmployeeOutboxEvent, Long> {
+    
+    // Oldest pending events first, which preserves the order of changes to each employee
+    @Query("SELECT o FROM EmployeeOutboxEvent o ORDER BY o.id")
+    List<EmployeeOutboxEvent> findPending(Pageable pageable);
+}
@@ -1,25 +1,36 @@
 package com.employeems.repository;
 
+import com.employeems.dto.DepartmentAnalyticsDTO;
+import com.employeems.dto.EmployeeSummary;
 import com.employeems.entity.Employee;
 import com.employeems.enums.Department;
 import com.employeems.enums.EmployeeStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Employee entity with custom query methods
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
     
     // Basic find methods
     Optional<Employee> findByEmail(String email);
@@ -52,6 +63,15 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     // Find top paid employees
     List<Employee> findTop10ByOrderBySalaryDesc();
     
+    // Top paid employees for any limit, optionally by department and active only
+    @Query("SELECT e FROM Employee e WHERE " +
+           "(:department IS NULL OR e.department = :department) AND " +
+           "(:activeOnly = false OR e.isActive = true) " +
+           "ORDER BY e.salary DESC, e.id ASC")
+    List<Employee> findTopPaid(@Param("department") Department department,
+                               @Param("activeOnly") boolean activeOnly,
+                               Pageable pageable);
+    
     // Custom JPQL queries
     @Query("SELECT e FROM Employee e WHERE e.department = :department AND e.isActive = true")
     List<Employee> findActiveEmployeesByDepartment(@Param("department") Department department);
@@ -73,6 +93,48 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
             @Param("startDate") LocalDate startDate, 
             @Param("endDate") LocalDate endDate);
     
+    // Range pages in index order, so both the index and the database serve the same page
+    @Query(value = "SELECT e FROM Employee e WHERE e.hireDate >= :startDate AND e.hireDate <= :endDate AND e.isActive = true " +
+                   "ORDER BY e.hireDate, e.id",
+           countQuery = "SELECT COUNT(e) FROM Employee e " +
+                        "WHERE e.hireDate >= :startDate AND e.hireDate <= :endDate AND e.isActive = true")
+    Page<Employee> findActiveEmployeesByHireDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+    
+    @Query(value = "SELECT e FROM Employee e WHERE e.salary >= :minSalary AND e.salary <= :maxSalary AND e.isActive = true " +
+                   "ORDER BY e.salary, e.id",
+           countQuery = "SELECT COUNT(e) FROM Employee e " +
+                        "WHERE e.salary >= :minSalary AND e.salary <= :maxSalary AND e.isActive = true")
+    Page<Employee> findActiveEmployeesBySalaryRange(
+            @Param("minSalary") BigDecimal minSalary,
+            @Param("maxSalary") BigDecimal maxSalary,
+            Pageable pageable);
+    
+    @Query("SELECT COUNT(e) FROM Employee e WHERE e.hireDate >= :startDate AND e.hireDate <= :endDate AND e.isActive = true")
+    long countActiveEmployeesByHireDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+    
+    @Query("SELECT COUNT(e) FROM Employee e WHERE e.salary >= :minSalary AND e.salary <= :maxSalary AND e.isActive = true")
+    long countActiveEmployeesBySalaryRange(
+            @Param("minSalary") BigDecimal minSalary,
+            @Param("maxSalary") BigDecimal maxSalary);
+    
+    // Single-pass per-department aggregates; salary aggregates only consider active employees
+    @Query("SELECT new com.employeems.dto.DepartmentAnalyticsDTO(e.department, COUNT(e), " +
+           "SUM(CASE WHEN e.isActive = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN e.isActive = true THEN e.salary ELSE NULL END), " +
+           "AVG(CASE WHEN e.isActive = true THEN e.salary ELSE NULL END), " +
+           "MIN(CASE WHEN e.isActive = true THEN e.salary ELSE NULL END), " +
+           "MAX(CASE WHEN e.isActive = true THEN e.salary ELSE NULL END)) " +
+           "FROM Employee e GROUP BY e.department")
+    List<DepartmentAnalyticsDTO> getDepartmentAnalytics();
+    
+    @Query("SELECT e.status, COUNT(e) FROM Employee e GROUP BY e.status")
+    List<Object[]> getStatusCounts();
+    
     // Native SQL queries for complex operations
     @Query(value = "SELECT department, COUNT(*) as count, AVG(salary) as avgSalary " +
                    "FROM employees WHERE is_active = true GROUP BY department", 
@@ -88,28 +150,155 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
            nativeQuery = true)
     Page<Employee> searchEmployeesWithPagination(@Param("keyword") String keyword, Pageable pageable);
     
+    // Summary projections for list endpoints; constructor expressions bypass the persistence context
+    @Query(value = "SELECT new com.employeems.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email, " +
+                   "e.department, e.position, e.status) FROM Employee e",
+           countQuery = "SELECT COUNT(e) FROM Employee e")
+    Page<EmployeeSummary> findAllSummaries(Pageable pageable);
+    
+    @Query("SELECT new com.employeems.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email, " +
+           "e.department, e.position, e.status) FROM Employee e WHERE e.id IN :ids")
+    List<EmployeeSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT new com.employeems.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email, " +
+           "e.department, e.position, e.status) FROM Employee e WHERE e.isActive = true")
+    List<EmployeeSummary> findActiveSummaries();
+    
+    @Query("SELECT new com.employeems.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email, " +
+           "e.department, e.position, e.status) FROM Employee e WHERE " +
+           "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(e.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(e.position) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    List<EmployeeSummary> searchSummariesByKeyword(@Param("keyword") String keyword);
+    
+    @Query(value = "SELECT new com.employeems.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email, " +
+                   "e.department, e.position, e.status) FROM Employee e WHERE " +
+                   "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(e.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(e.position) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                   "ORDER BY e.firstName, e.lastName",
+           countQuery = "SELECT COUNT(e) FROM Employee e WHERE " +
+                        "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(e.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(e.position) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<EmployeeSummary> searchSummariesWithPagination(@Param("keyword") String keyword, Pageable pageable);
+    
+    @Query(value = "SELECT new com.employeems.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email, " +
+                   "e.department, e.position, e.status) FROM Employee e " +
+                   "WHERE e.hireDate >= :startDate AND e.hireDate <= :endDate AND e.isActive = true " +
+                   "ORDER BY e.hireDate, e.id",
+           countQuery = "SELECT COUNT(e) FROM Employee e " +
+                        "WHERE e.hireDate >= :startDate AND e.hireDate <= :endDate AND e.isActive = true")
+    Page<EmployeeSummary> findActiveSummariesByHireDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+    
+    @Query(value = "SELECT new com.employeems.dto.EmployeeSummary(e.id, e.firstName, e.lastName, e.email, " +
+                   "e.department, e.position, e.status) FROM Employee e " +
+                   "WHERE e.salary >= :minSalary AND e.salary <= :maxSalary AND e.isActive = true " +
+                   "ORDER BY e.salary, e.id",
+           countQuery = "SELECT COUNT(e) FROM Employee e " +
+                        "WHERE e.salary >= :minSalary AND e.salary <= :maxSalary AND e.isActive = true")
+    Page<EmployeeSummary> findActiveSummariesBySalaryRange(
+            @Param("minSalary") BigDecimal minSalary,
+            @Param("maxSalary") BigDecimal maxSalary,
+            Pageable pageable);
+    
     // Pagination and sorting support
     Page<Employee> findByDepartment(Department department, Pageable pageable);
     Page<Employee> findByStatus(EmployeeStatus status, Pageable pageable);
     Page<Employee> findByIsActive(Boolean isActive, Pageable pageable);
     
-    // Find employees with pagination and search
+    // Forward-only cursor over all employees for exports; rows are read-only and fetched in batches
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e ORDER BY e.id")
+    Stream<Employee> streamAllOrderedById();
+    
+    // Forward-only cursors backing the NDJSON streaming variants of the list endpoints
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e WHERE e.isActive = :isActive ORDER BY e.id")
+    Stream<Employee> streamByIsActive(@Param("isActive") Boolean isActive);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e WHERE e.department = :department ORDER BY e.id")
+    Stream<Employee> streamByDepartment(@Param("department") Department department);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e WHERE e.status = :status ORDER BY e.id")
+    Stream<Employee> streamByStatus(@Param("status") EmployeeStatus status);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query("SELECT e FROM Employee e WHERE " +
-           "(:department IS NULL OR e.department = :department) AND " +
-           "(:status IS NULL OR e.status = :status) AND " +
-           "(:keyword IS NULL OR " +
            "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(e.email) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Employee> findEmployeesWithFilters(
-            @Param("department") Department department,
-            @Param("status") EmployeeStatus status,
-            @Param("keyword") String keyword,
-            Pageable pageable);
+           "LOWER(e.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(e.position) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "ORDER BY e.firstName, e.lastName, e.id")
+    Stream<Employee> streamByKeyword(@Param("keyword") String keyword);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e WHERE e.hireDate >= :startDate AND e.hireDate <= :endDate AND e.isActive = true " +
+           "ORDER BY e.hireDate, e.id")
+    Stream<Employee> streamActiveEmployeesByHireDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e WHERE e.salary >= :minSalary AND e.salary <= :maxSalary AND e.isActive = true " +
+           "ORDER BY e.salary, e.id")
+    Stream<Employee> streamActiveEmployeesBySalaryRange(
+            @Param("minSalary") BigDecimal minSalary,
+            @Param("maxSalary") BigDecimal maxSalary);
+    
+    // Change feed: keyset over (updatedAt, id), served by idx_employee_updated_at
+    @Query("SELECT e FROM Employee e WHERE " +
+           "(e.updatedAt > :updatedAt OR (e.updatedAt = :updatedAt AND e.id > :lastId)) AND " +
+           "e.updatedAt <= :until " +
+           "ORDER BY e.updatedAt, e.id")
+    List<Employee> findChangesAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                    @Param("lastId") Long lastId,
+                                    @Param("until") LocalDateTime until,
+                                    Pageable pageable);
+    
+    // Conditional requests: validator lookup without loading the entity, and a locked read for If-Match
+    @Query("SELECT e.updatedAt FROM Employee e WHERE e.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.id = :id")
+    Optional<Employee> findByIdForUpdate(@Param("id") Long id);
     
     // Check if email exists (for validation)
     boolean existsByEmail(String email);
     boolean existsByEmailAndIdNot(String email, Long id);
+    
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
 
 
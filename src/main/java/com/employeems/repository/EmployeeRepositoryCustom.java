@@ -0,0 +1,65 @@
+package com.employeems.repository;
+
+import com.employeems.dto.EmployeeSummary;
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom repository fragment for queries built with the Criteria API
+ */
+public interface EmployeeRepositoryCustom {
+    
+    /**
+     * Fetch up to {@code limit} employees matching the optional filters, ordered by
+     * {@code sortBy} with the ID as tie-breaker, starting strictly after the cursor position.
+     * No offset is used, so the cost does not depend on how deep the page is.
+     */
+    List<Employee> findKeysetPage(Department department, EmployeeStatus status, Boolean isActive, String keyword,
+                                  String sortBy, Sort.Direction direction, KeysetCursor after, int limit);
+    
+    /**
+     * Fetch one page of employees matching the optional filters. Only the filters that are
+     * present become predicates, so the department and status indexes stay usable.
+     * When {@code ids} is non-null the page is further restricted to those IDs.
+     * No count query is issued; callers supply the total.
+     */
+    List<Employee> findFilteredPage(Department department, EmployeeStatus status, Boolean isActive,
+                                    String keyword, Collection<Long> ids, Pageable pageable);
+    
+    /**
+     * Same as {@link #findFilteredPage}, selecting only the summary columns
+     */
+    List<EmployeeSummary> findFilteredSummaryPage(Department department, EmployeeStatus status, Boolean isActive,
+                                                  String keyword, Collection<Long> ids, Pageable pageable);
+    
+    /**
+     * Same as {@link #findFilteredPage}, selecting only the given attributes (plus the ID) with a
+     * tuple query. Each row is a map from attribute name to value, in the requested order.
+     * Unknown attribute names are rejected.
+     */
+    List<Map<String, Object>> findFilteredFieldsPage(List<String> fields, Department department,
+                                                     EmployeeStatus status, Boolean isActive, String keyword,
+                                                     Collection<Long> ids, Pageable pageable);
+    
+    /**
+     * Select only the given attributes (plus the ID) of the employees with the given IDs, in no particular order
+     */
+    List<Map<String, Object>> findFieldsByIdIn(List<String> fields, Collection<Long> ids);
+    
+    /**
+     * Count employees matching the optional filters
+     */
+    long countFiltered(Department department, EmployeeStatus status, Boolean isActive, String keyword);
+    
+    /**
+     * Evict an employee from the persistence context so streamed rows can be garbage collected
+     */
+    void detach(Employee employee);
+}
@@ -0,0 +1,287 @@
+package com.employeems.repository;
+
+import com.employeems.dto.EmployeeSummary;
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import com.employeems.exception.InvalidEmployeeDataException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Criteria API implementation of {@link EmployeeRepositoryCustom}
+ */
+public class EmployeeRepositoryImpl implements EmployeeRepositoryCustom {
+    
+    private static final char LIKE_ESCAPE = '\\';
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<Employee> findKeysetPage(Department department, EmployeeStatus status, Boolean isActive,
+                                         String keyword, String sortBy, Sort.Direction direction,
+                                         KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> root = query.from(Employee.class);
+        
+        List<Predicate> predicates = filterPredicates(cb, root, department, status, isActive, keyword);
+        if (after != null) {
+            predicates.add(seekPredicate(cb, root, sortBy, direction, after));
+        }
+        
+        Path<Object> sortPath = root.get(sortBy);
+        Path<Long> idPath = root.get("id");
+        query.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(direction.isAscending()
+                        ? List.of(cb.asc(sortPath), cb.asc(idPath))
+                        : List.of(cb.desc(sortPath), cb.desc(idPath)));
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+    
+    @Override
+    public List<Employee> findFilteredPage(Department department, EmployeeStatus status, Boolean isActive,
+                                           String keyword, Collection<Long> ids, Pageable pageable) {
+        return filteredPage(Employee.class, (cb, root) -> root,
+                department, status, isActive, keyword, ids, pageable);
+    }
+    
+    @Override
+    public List<EmployeeSummary> findFilteredSummaryPage(Department department, EmployeeStatus status,
+                                                         Boolean isActive, String keyword, Collection<Long> ids,
+                                                         Pageable pageable) {
+        return filteredPage(EmployeeSummary.class, (cb, root) -> cb.construct(EmployeeSummary.class,
+                        root.get("id"), root.get("firstName"), root.get("lastName"), root.get("email"),
+                        root.get("department"), root.get("position"), root.get("status")),
+                department, status, isActive, keyword, ids, pageable);
+    }
+    
+    private <T> List<T> filteredPage(Class<T> resultType,
+                                     BiFunction<CriteriaBuilder, Root<Employee>, Selection<? extends T>> selection,
+                                     Department department, EmployeeStatus status, Boolean isActive,
+                                     String keyword, Collection<Long> ids, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(resultType);
+        Root<Employee> root = query.from(Employee.class);
+        
+        List<Predicate> predicates = filterPredicates(cb, root, department, status, isActive, keyword);
+        if (ids != null) {
+            predicates.add(root.get("id").in(ids));
+        }
+        
+        Sort sort = pageable.getSort();
+        sort.forEach(order -> KeysetCursor.requireSortable(order.getProperty()));
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(sort, root, cb));
+        if (sort.getOrderFor("id") == null) {
+            orders.add(cb.asc(root.get("id")));
+        }
+        
+        query.select(selection.apply(cb, root))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(orders);
+        
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+    
+    @Override
+    public List<Map<String, Object>> findFilteredFieldsPage(List<String> fields, Department department,
+                                                            EmployeeStatus status, Boolean isActive, String keyword,
+                                                            Collection<Long> ids, Pageable pageable) {
+        List<String> selected = selectableFields(fields);
+        List<Tuple> rows = filteredPage(Tuple.class, (cb, root) -> cb.tuple(paths(root, selected)),
+                department, status, isActive, keyword, ids, pageable);
+        return toMaps(rows, selected);
+    }
+    
+    @Override
+    public List<Map<String, Object>> findFieldsByIdIn(List<String> fields, Collection<Long> ids) {
+        List<String> selected = selectableFields(fields);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        
+        query.select(cb.tuple(paths(root, selected)))
+                .where(root.get("id").in(ids));
+        
+        return toMaps(entityManager.createQuery(query).getResultList(), selected);
+    }
+    
+    @Override
+    public long countFiltered(Department department, EmployeeStatus status, Boolean isActive, String keyword) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
+        
+        query.select(cb.count(root))
+                .where(filterPredicates(cb, root, department, status, isActive, keyword).toArray(new Predicate[0]));
+        
+        return entityManager.createQuery(query).getSingleResult();
+    }
+    
+    @Override
+    public void detach(Employee employee) {
+        entityManager.detach(employee);
+    }
+    
+    /**
+     * Validate requested field names against the Employee attributes; the ID is always selected first
+     */
+    private List<String> selectableFields(List<String> fields) {
+        Set<String> attributes = entityManager.getMetamodel().entity(Employee.class).getSingularAttributes().stream()
+                .map(Attribute::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+        
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields) {
+            if (!attributes.contains(field)) {
+                throw new InvalidEmployeeDataException("Unknown field: " + field
+                        + ". Allowed fields: " + String.join(", ", attributes));
+            }
+            selected.add(field);
+        }
+        return new ArrayList<>(selected);
+    }
+    
+    private Selection<?>[] paths(Root<Employee> root, List<String> fields) {
+        return fields.stream()
+                .map(field -> root.get(field).alias(field))
+                .toArray(Selection[]::new);
+    }
+    
+    private List<Map<String, Object>> toMaps(List<Tuple> rows, List<String> fields) {
+        List<Map<String, Object>> maps = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                map.put(fields.get(i), row.get(i));
+            }
+            maps.add(map);
+        }
+        return maps;
+    }
+    
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Employee> root, Department department,
+                                             EmployeeStatus status, Boolean isActive, String keyword) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (department != null) {
+            predicates.add(cb.equal(root.get("department"), department));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(root.get("status"), status));
+        }
+        if (isActive != null) {
+            predicates.add(cb.equal(root.get("isActive"), isActive));
+        }
+        if (StringUtils.hasText(keyword)) {
+            String pattern = containsPattern(keyword);
+            predicates.add(cb.or(
+                    cb.like(cb.lower(root.get("firstName")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.get("lastName")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.get("email")), pattern, LIKE_ESCAPE)));
+        }
+        return predicates;
+    }
+    
+    /**
+     * A LIKE pattern matching the keyword literally anywhere in a lower-cased value, as the trigram
+     * index does; {@code %} and {@code _} in the keyword are escaped rather than acting as wildcards
+     */
+    private static String containsPattern(String keyword) {
+        String literal = keyword.trim().toLowerCase(Locale.ROOT)
+                .replace(String.valueOf(LIKE_ESCAPE), String.valueOf(LIKE_ESCAPE) + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+        return "%" + literal + "%";
+    }
+    
+    /**
+     * (sortKey, id) &gt; (lastValue, lastId) for ascending order, &lt; for descending
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<Employee> root, String sortBy,
+                                    Sort.Direction direction, KeysetCursor after) {
+        Expression<Long> idPath = root.get("id");
+        Predicate idAfter = direction.isAscending()
+                ? cb.greaterThan(idPath, after.getLastId())
+                : cb.lessThan(idPath, after.getLastId());
+        if ("id".equals(sortBy)) {
+            return idAfter;
+        }
+        
+        Path sortPath = root.get(sortBy);
+        Comparable lastValue = parseValue(sortPath.getJavaType(), after.getLastValue());
+        Predicate valueAfter = direction.isAscending()
+                ? cb.greaterThan(sortPath, lastValue)
+                : cb.lessThan(sortPath, lastValue);
+        
+        return cb.or(valueAfter, cb.and(cb.equal(sortPath, lastValue), idAfter));
+    }
+    
+    private Comparable<?> parseValue(Class<?> type, String value) {
+        try {
+            if (type == String.class) {
+                return value;
+            }
+            if (type == Long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            }
+            if (type == LocalDate.class) {
+                return LocalDate.parse(value);
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            }
+            if (type == Department.class) {
+                return Department.valueOf(value);
+            }
+            if (type == EmployeeStatus.class) {
+                return EmployeeStatus.valueOf(value);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidEmployeeDataException("Invalid pagination cursor", e);
+        }
+        throw new InvalidEmployeeDataException("Unsupported keyset sort type: " + type.getSimpleName());
+    }
+}
@@ -0,0 +1,126 @@
+package com.employeems.repository;
+
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import com.employeems.exception.InvalidEmployeeDataException;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Opaque keyset pagination cursor encoding the sort key and ID of the last row of a slice,
+ * bound to a fingerprint of the filters the slice was read with
+ */
+public final class KeysetCursor {
+    
+    /**
+     * Attributes that may be used as a keyset sort key; all are non-nullable columns
+     */
+    public static final Set<String> SORTABLE_FIELDS = Set.of(
+            "id", "firstName", "lastName", "email", "department", "position",
+            "salary", "hireDate", "status", "createdAt", "updatedAt");
+    
+    private static final String SEPARATOR = "\n";
+    private static final int FILTER_DIGEST_BYTES = 16;
+    
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final String filters;
+    private final Long lastId;
+    private final String lastValue;
+    
+    public KeysetCursor(String sortBy, Sort.Direction direction, String filters, Long lastId, String lastValue) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.filters = filters;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+    
+    /**
+     * Build the cursor pointing just past the given employee
+     */
+    public static KeysetCursor after(Employee employee, String sortBy, Sort.Direction direction, String filters) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(employee);
+        Object value = wrapper.getPropertyValue(sortBy);
+        String lastValue = value instanceof Enum<?> ? ((Enum<?>) value).name() : String.valueOf(value);
+        return new KeysetCursor(sortBy, direction, filters, employee.getId(), lastValue);
+    }
+    
+    /**
+     * Stable fingerprint of a filter combination: the first 128 bits of a SHA-256 digest, so distinct
+     * filters never share a cursor in practice. A blank keyword counts as no keyword.
+     */
+    public static String filters(Department department, EmployeeStatus status, Boolean isActive, String keyword) {
+        String canonical = department + "|" + status + "|" + isActive + "|"
+                + (StringUtils.hasText(keyword) ? keyword.trim() : null);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, FILTER_DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    /**
+     * Decode a cursor previously produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 5);
+            if (parts.length != 5 || !SORTABLE_FIELDS.contains(parts[0])) {
+                throw new InvalidEmployeeDataException("Invalid pagination cursor");
+            }
+            return new KeysetCursor(parts[0], Sort.Direction.fromString(parts[1]), parts[2],
+                    Long.valueOf(parts[3]), parts[4]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEmployeeDataException("Invalid pagination cursor", e);
+        }
+    }
+    
+    /**
+     * Validate a requested sort field against the keyset-sortable attributes
+     */
+    public static String requireSortable(String sortBy) {
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new InvalidEmployeeDataException("Cannot sort by '" + sortBy + "'");
+        }
+        return sortBy;
+    }
+    
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + filters
+                + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public String getSortBy() {
+        return sortBy;
+    }
+    
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+    
+    public String getFilters() {
+        return filters;
+    }
+    
+    public Long getLastId() {
+        return lastId;
+    }
+    
+    public String getLastValue() {
+        return lastValue;
+    }
+}
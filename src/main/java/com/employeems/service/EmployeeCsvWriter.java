@@ -0,0 +1,74 @@
+package com.employeems.service;
+
+import com.employeems.entity.Employee;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes employees as RFC 4180 CSV rows to an underlying writer
+ */
+public class EmployeeCsvWriter {
+    
+    private static final String[] HEADER = {
+        "id", "firstName", "lastName", "email", "phoneNumber", "department", "position",
+        "salary", "hireDate", "status", "isActive", "createdAt", "updatedAt"
+    };
+    
+    private final Writer writer;
+    
+    public EmployeeCsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+    
+    public void writeHeader() throws IOException {
+        writeRow((Object[]) HEADER);
+    }
+    
+    public void write(Employee employee) throws IOException {
+        writeRow(
+            employee.getId(),
+            employee.getFirstName(),
+            employee.getLastName(),
+            employee.getEmail(),
+            employee.getPhoneNumber(),
+            employee.getDepartment() != null ? employee.getDepartment().name() : null,
+            employee.getPosition(),
+            employee.getSalary() != null ? employee.getSalary().toPlainString() : null,
+            employee.getHireDate(),
+            employee.getStatus() != null ? employee.getStatus().name() : null,
+            employee.getIsActive(),
+            employee.getCreatedAt(),
+            employee.getUpdatedAt()
+        );
+    }
+    
+    public void flush() throws IOException {
+        writer.flush();
+    }
+    
+    private void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+    
+    private void writeField(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,55 @@
+package com.employeems.service;
+
+import com.employeems.entity.Employee;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+
+/**
+ * Entity tags and Last-Modified values for employees, derived from the ID and {@code updatedAt}.
+ * Timestamps are reduced to microseconds, the precision the database keeps, so a tag computed
+ * from a freshly saved entity equals the one computed after reloading it.
+ */
+public final class EmployeeEtags {
+    
+    private static final String ANY = "*";
+    
+    private EmployeeEtags() {
+    }
+    
+    /**
+     * Strong entity tag for the given employee version
+     */
+    public static String of(Long id, LocalDateTime updatedAt) {
+        long micros = updatedAt == null ? 0
+                : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return "\"" + id + "-" + micros + "\"";
+    }
+    
+    public static String of(Employee employee) {
+        return of(employee.getId(), employee.getUpdatedAt());
+    }
+    
+    /**
+     * Last-Modified value in epoch millis, or -1 when the employee has no timestamp
+     */
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    /**
+     * Whether any If-Match tag matches the employee; weak tags never match
+     */
+    public static boolean matches(Collection<String> ifMatch, Employee employee) {
+        String etag = of(employee);
+        for (String candidate : ifMatch) {
+            String tag = candidate.trim();
+            if (tag.equals(ANY) || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package com.employeems.service;
+
+import com.employeems.entity.Employee;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes employees as newline-delimited JSON, one object per line, through a single
+ * Jackson generator. Output is flushed after the first row and then every
+ * {@value #FLUSH_INTERVAL} rows, so clients see data early without a flush per row.
+ */
+public class EmployeeNdjsonWriter implements AutoCloseable {
+    
+    private static final int FLUSH_INTERVAL = 500;
+    
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private long rows;
+    
+    public EmployeeNdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+        this.writer = objectMapper.writerFor(Employee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+    
+    public void write(Employee employee) throws IOException {
+        writer.writeValue(generator, employee);
+        generator.writeRaw('\n');
+        rows++;
+        if (rows == 1 || rows % FLUSH_INTERVAL == 0) {
+            generator.flush();
+        }
+    }
+    
+    public void flush() throws IOException {
+        generator.flush();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,14 @@
+package com.employeems.service;
+
+import com.employeems.entity.Employee;
+
+import java.io.IOException;
+
+/**
+ * Receives employees one at a time from a streaming query
+ */
+@FunctionalInterface
+public interface EmployeeRowHandler {
+    
+    void handle(Employee employee) throws IOException;
+}
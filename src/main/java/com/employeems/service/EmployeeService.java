@@ -1,30 +1,79 @@
 package com.employeems.service;
 
+import com.employeems.cache.DataVersions;
+import com.employeems.cache.EmployeeCache;
+import com.employeems.cache.QueryResultCache;
+import com.employeems.cache.SerializedResponseCache;
+import com.employeems.cache.SingleFlight;
+import com.employeems.dto.BatchCreateResponse;
+import com.employeems.dto.BatchCreateResult;
+import com.employeems.dto.ChangeFeedResponse;
+import com.employeems.dto.DepartmentAnalyticsDTO;
 import com.employeems.dto.EmployeeStatisticsDTO;
+import com.employeems.dto.EmployeeSummary;
+import com.employeems.dto.KeysetSlice;
 import com.employeems.entity.Employee;
 import com.employeems.enums.Department;
 import com.employeems.enums.EmployeeStatus;
+import com.employeems.events.EmployeeChangeEvent;
+import com.employeems.events.EmployeeOutbox;
 import com.employeems.exception.DuplicateEmailException;
 import com.employeems.exception.EmployeeNotFoundException;
 import com.employeems.exception.InvalidEmployeeDataException;
+import com.employeems.exception.PreconditionFailedException;
+import com.employeems.index.BitmapIndex;
+import com.employeems.index.EmailBloomFilter;
+import com.employeems.index.EmployeeIndexMaintainer;
+import com.employeems.index.EmployeeStatisticsStore;
+import com.employeems.index.RangeIndex;
+import com.employeems.index.SalaryIndex;
+import com.employeems.index.TrigramSearchIndex;
+import com.employeems.repository.ChangeToken;
 import com.employeems.repository.EmployeeRepository;
+import com.employeems.repository.KeysetCursor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for Employee business logic
@@ -35,11 +84,60 @@ public class EmployeeService {
     
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
     
+    public static final int MAX_BATCH_SIZE = 5000;
+    private static final int MAX_ID_FILTER_SIZE = 1000;
+    private static final int ID_CHUNK_SIZE = 500;
+    
     private final EmployeeRepository employeeRepository;
+    private final TrigramSearchIndex searchIndex;
+    private final EmployeeStatisticsStore statisticsStore;
+    private final SalaryIndex salaryIndex;
+    private final RangeIndex rangeIndex;
+    private final BitmapIndex bitmapIndex;
+    private final EmailBloomFilter emailBloomFilter;
+    private final EmployeeIndexMaintainer indexMaintainer;
+    private final EmployeeCache employeeCache;
+    private final QueryResultCache queryResultCache;
+    private final DataVersions dataVersions;
+    private final SingleFlight singleFlight;
+    private final SerializedResponseCache responseCache;
+    private final EmployeeOutbox outbox;
+    private final Validator validator;
+    private final long changesSafetyLagMillis;
     
     @Autowired
-    public EmployeeService(EmployeeRepository employeeRepository) {
+    public EmployeeService(EmployeeRepository employeeRepository,
+                           TrigramSearchIndex searchIndex,
+                           EmployeeStatisticsStore statisticsStore,
+                           SalaryIndex salaryIndex,
+                           RangeIndex rangeIndex,
+                           BitmapIndex bitmapIndex,
+                           EmailBloomFilter emailBloomFilter,
+                           EmployeeIndexMaintainer indexMaintainer,
+                           EmployeeCache employeeCache,
+                           QueryResultCache queryResultCache,
+                           DataVersions dataVersions,
+                           SingleFlight singleFlight,
+                           SerializedResponseCache responseCache,
+                           EmployeeOutbox outbox,
+                           Validator validator,
+                           @Value("${employeems.changes.safety-lag-ms:5000}") long changesSafetyLagMillis) {
         this.employeeRepository = employeeRepository;
+        this.searchIndex = searchIndex;
+        this.statisticsStore = statisticsStore;
+        this.salaryIndex = salaryIndex;
+        this.rangeIndex = rangeIndex;
+        this.bitmapIndex = bitmapIndex;
+        this.emailBloomFilter = emailBloomFilter;
+        this.indexMaintainer = indexMaintainer;
+        this.employeeCache = employeeCache;
+        this.queryResultCache = queryResultCache;
+        this.dataVersions = dataVersions;
+        this.singleFlight = singleFlight;
+        this.responseCache = responseCache;
+        this.outbox = outbox;
+        this.validator = validator;
+        this.changesSafetyLagMillis = changesSafetyLagMillis;
     }
     
     /**
@@ -49,7 +147,7 @@ public class EmployeeService {
         logger.info("Saving new employee: {}", employee.getEmail());
         
         // Validate unique email
-        if (employeeRepository.existsByEmail(employee.getEmail())) {
+        if (emailExists(employee.getEmail(), null)) {
             throw new DuplicateEmailException("Employee with email '" + employee.getEmail() + "' already exists");
         }
         
@@ -61,23 +159,123 @@ public class EmployeeService {
             employee.setIsActive(true);
         }
         
-        Employee savedEmployee = employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.saveAndFlush(employee);
+        outbox.append(EmployeeChangeEvent.Type.CREATED, List.of(savedEmployee));
+        indexMaintainer.indexAfterCommit(savedEmployee);
+        afterCommit(() -> employeeCache.put(savedEmployee));
+        bumpVersionsAfterCommit(List.of(savedEmployee.getDepartment()));
         logger.info("Employee saved successfully with ID: {}", savedEmployee.getId());
         
         return savedEmployee;
     }
     
+    /**
+     * Save a batch of new employees in one transaction.
+     * Rows are validated individually, all emails are checked for uniqueness in a single query,
+     * and accepted rows are inserted with JDBC batching. Rejected rows do not fail the batch.
+     */
+    public BatchCreateResponse saveEmployees(List<Employee> employees) {
+        logger.info("Saving batch of {} employees", employees.size());
+        
+        if (employees.size() > MAX_BATCH_SIZE) {
+            throw new InvalidEmployeeDataException("Batch cannot contain more than " + MAX_BATCH_SIZE + " employees");
+        }
+        
+        // Only emails the Bloom filter cannot rule out need to be checked in the database
+        Set<String> candidateEmails = employees.stream()
+                .map(Employee::getEmail)
+                .filter(Objects::nonNull)
+                .filter(email -> !emailBloomFilter.isReady() || emailBloomFilter.mightContain(email))
+                .collect(Collectors.toSet());
+        Set<String> existingEmails = candidateEmails.isEmpty() ? Set.of() :
+                employeeRepository.findExistingEmails(candidateEmails);
+        
+        BatchCreateResult[] results = new BatchCreateResult[employees.size()];
+        Set<String> batchEmails = new HashSet<>();
+        List<Employee> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            
+            Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+            if (!violations.isEmpty()) {
+                List<String> errors = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.toList());
+                results[i] = new BatchCreateResult(i, BatchCreateResult.Outcome.INVALID, null, employee.getEmail(), errors);
+                continue;
+            }
+            
+            if (existingEmails.contains(employee.getEmail()) || !batchEmails.add(employee.getEmail())) {
+                results[i] = new BatchCreateResult(i, BatchCreateResult.Outcome.DUPLICATE_EMAIL, null, employee.getEmail(),
+                        List.of("Employee with email '" + employee.getEmail() + "' already exists"));
+                continue;
+            }
+            
+            // Set default values
+            employee.setId(null);
+            if (employee.getStatus() == null) {
+                employee.setStatus(EmployeeStatus.ACTIVE);
+            }
+            if (employee.getIsActive() == null) {
+                employee.setIsActive(true);
+            }
+            accepted.add(employee);
+            acceptedIndexes.add(i);
+        }
+        
+        List<Employee> savedEmployees = employeeRepository.saveAll(accepted);
+        employeeRepository.flush();
+        outbox.append(EmployeeChangeEvent.Type.CREATED, savedEmployees);
+        indexMaintainer.indexAfterCommit(savedEmployees);
+        List<Long> savedIds = savedEmployees.stream().map(Employee::getId).collect(Collectors.toList());
+        afterCommit(() -> employeeCache.allocated(savedIds));
+        if (!savedEmployees.isEmpty()) {
+            bumpVersionsAfterCommit(savedEmployees.stream().map(Employee::getDepartment).collect(Collectors.toSet()));
+        }
+        
+        for (int i = 0; i < savedEmployees.size(); i++) {
+            Employee saved = savedEmployees.get(i);
+            int index = acceptedIndexes.get(i);
+            results[index] = new BatchCreateResult(index, BatchCreateResult.Outcome.CREATED, saved.getId(), saved.getEmail(), null);
+        }
+        
+        logger.info("Batch saved {} of {} employees", savedEmployees.size(), employees.size());
+        return new BatchCreateResponse(Arrays.asList(results));
+    }
+    
     /**
      * Update an existing employee
      */
     public Employee updateEmployee(Long id, Employee employeeDetails) {
+        return updateEmployee(id, employeeDetails, List.of());
+    }
+    
+    /**
+     * Update an existing employee only if its current entity tag matches one of the If-Match tags.
+     * The row is locked while the tag is checked so a concurrent update cannot slip in between.
+     * An empty list updates unconditionally.
+     */
+    public Employee updateEmployee(Long id, Employee employeeDetails, List<String> ifMatch) {
         logger.info("Updating employee with ID: {}", id);
         
-        Employee existingEmployee = getEmployeeById(id);
+        Employee existingEmployee;
+        if (ifMatch.isEmpty()) {
+            existingEmployee = findManagedEmployee(id);
+        } else {
+            existingEmployee = employeeRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> new EmployeeNotFoundException(id));
+            if (!EmployeeEtags.matches(ifMatch, existingEmployee)) {
+                throw new PreconditionFailedException("Employee with ID " + id + " has been modified");
+            }
+        }
+        Department previousDepartment = existingEmployee.getDepartment();
         
         // Check if email is being changed and if it's unique
         if (!existingEmployee.getEmail().equals(employeeDetails.getEmail()) &&
-            employeeRepository.existsByEmailAndIdNot(employeeDetails.getEmail(), id)) {
+            emailExists(employeeDetails.getEmail(), id)) {
             throw new DuplicateEmailException("Employee with email '" + employeeDetails.getEmail() + "' already exists");
         }
         
@@ -93,7 +291,14 @@ public class EmployeeService {
         existingEmployee.setStatus(employeeDetails.getStatus());
         existingEmployee.setIsActive(employeeDetails.getIsActive());
         
-        Employee updatedEmployee = employeeRepository.save(existingEmployee);
+        // Flushing before the outbox append stamps updatedAt and takes the row lock, so a concurrent
+        // update to the same employee gets a later outbox id and is relayed after this one
+        Employee updatedEmployee = employeeRepository.saveAndFlush(existingEmployee);
+        outbox.append(EmployeeChangeEvent.Type.UPDATED, List.of(updatedEmployee));
+        indexMaintainer.indexAfterCommit(updatedEmployee);
+        afterCommit(() -> employeeCache.put(updatedEmployee));
+        afterCommit(() -> responseCache.invalidate(SerializedResponseCache.EMPLOYEE, id));
+        bumpVersionsAfterCommit(Arrays.asList(previousDepartment, updatedEmployee.getDepartment()));
         logger.info("Employee updated successfully with ID: {}", updatedEmployee.getId());
         
         return updatedEmployee;
@@ -105,21 +310,43 @@ public class EmployeeService {
     public void deleteEmployee(Long id) {
         logger.info("Deleting employee with ID: {}", id);
         
-        Employee employee = getEmployeeById(id);
+        Employee employee = findManagedEmployee(id);
         employee.setIsActive(false);
         employee.setStatus(EmployeeStatus.TERMINATED);
         
-        employeeRepository.save(employee);
+        Employee deletedEmployee = employeeRepository.saveAndFlush(employee);
+        outbox.append(EmployeeChangeEvent.Type.DELETED, List.of(deletedEmployee));
+        indexMaintainer.indexAfterCommit(deletedEmployee);
+        afterCommit(() -> employeeCache.put(deletedEmployee));
+        afterCommit(() -> responseCache.invalidate(SerializedResponseCache.EMPLOYEE, id));
+        bumpVersionsAfterCommit(List.of(deletedEmployee.getDepartment()));
         logger.info("Employee deleted successfully with ID: {}", id);
     }
     
     /**
-     * Get employee by ID
+     * Get employee by ID (a detached snapshot served from the employee cache)
      */
     @Transactional(readOnly = true)
     public Employee getEmployeeById(Long id) {
         logger.debug("Fetching employee with ID: {}", id);
         
+        return employeeCache.get(id, employeeRepository::findById)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+    
+    /**
+     * Get the last modification time of an employee without loading it when it is not cached
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime getEmployeeLastModified(Long id) {
+        return employeeCache.lastModified(id, employeeRepository::findUpdatedAtById)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+    
+    /**
+     * Load the managed entity for a write, bypassing the cache
+     */
+    private Employee findManagedEmployee(Long id) {
         return employeeRepository.findById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException(id));
     }
@@ -139,6 +366,119 @@ public class EmployeeService {
         return employeeRepository.findAll(pageable);
     }
     
+    /**
+     * Get all employees as summaries with pagination and sorting
+     */
+    @Transactional(readOnly = true)
+    public Page<EmployeeSummary> getEmployeeSummaries(Pageable pageable) {
+        logger.debug("Fetching employee summaries with pagination: {}", pageable);
+        
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), 
+                    Sort.by(Sort.Direction.ASC, "firstName", "lastName"));
+        }
+        
+        return employeeRepository.findAllSummaries(pageable);
+    }
+    
+    /**
+     * Get all employees with pagination and sorting, selecting only the requested fields (plus the ID)
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getEmployeeFields(List<String> fields, Pageable pageable) {
+        logger.debug("Fetching employee fields {} with pagination: {}", fields, pageable);
+        
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), 
+                    Sort.by(Sort.Direction.ASC, "firstName", "lastName"));
+        }
+        
+        List<Map<String, Object>> content = employeeRepository.findFilteredFieldsPage(
+                fields, null, null, null, null, null, pageable);
+        return PageableExecutionUtils.getPage(content, pageable, employeeRepository::count);
+    }
+    
+    /**
+     * Get the requested fields (plus the ID) of one employee
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getEmployeeFieldsById(Long id, List<String> fields) {
+        logger.debug("Fetching fields {} of employee with ID: {}", fields, id);
+        
+        return employeeRepository.findFieldsByIdIn(fields, List.of(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+    
+    /**
+     * Get a keyset-paginated slice of employees matching the optional filters.
+     * An empty cursor starts from the beginning; a non-empty cursor carries its own sort order.
+     */
+    @Transactional(readOnly = true)
+    public KeysetSlice<Employee> getEmployeesAfter(Department department, EmployeeStatus status, Boolean isActive,
+                                                   String keyword, String after, int size, String sortBy,
+                                                   Sort.Direction direction) {
+        logger.debug("Fetching employees after cursor - department: {}, status: {}, active: {}, keyword: {}, size: {}",
+                    department, status, isActive, keyword, size);
+        
+        if (size <= 0) {
+            throw new InvalidEmployeeDataException("Page size must be greater than zero");
+        }
+        
+        String filters = KeysetCursor.filters(department, status, isActive, keyword);
+        KeysetCursor cursor = null;
+        if (StringUtils.hasText(after)) {
+            cursor = KeysetCursor.decode(after);
+            if (!cursor.getFilters().equals(filters)) {
+                throw new InvalidEmployeeDataException("Pagination cursor does not match the requested filters");
+            }
+            sortBy = cursor.getSortBy();
+            direction = cursor.getDirection();
+        } else {
+            KeysetCursor.requireSortable(sortBy);
+        }
+        
+        List<Employee> rows = employeeRepository.findKeysetPage(
+                department, status, isActive, keyword, sortBy, direction, cursor, size + 1);
+        
+        boolean hasNext = rows.size() > size;
+        List<Employee> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? KeysetCursor.after(content.get(content.size() - 1), sortBy, direction, filters).encode()
+                : null;
+        
+        return new KeysetSlice<>(content, size, hasNext, nextCursor);
+    }
+    
+    /**
+     * Get employees created, updated or soft-deleted after the given change token, oldest first.
+     * An empty token starts from the beginning. Changes newer than the safety lag are held back,
+     * because a transaction stamps updatedAt before it commits and could otherwise become visible
+     * behind a token a client has already moved past.
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse getChangesSince(String since, int limit) {
+        logger.debug("Fetching employee changes since token: {}, limit: {}", since, limit);
+        
+        if (limit <= 0) {
+            throw new InvalidEmployeeDataException("Limit must be greater than zero");
+        }
+        
+        ChangeToken token = StringUtils.hasText(since) ? ChangeToken.decode(since) : ChangeToken.initial();
+        LocalDateTime until = LocalDateTime.now().minusNanos(changesSafetyLagMillis * 1_000_000);
+        
+        List<Employee> rows = employeeRepository.findChangesAfter(
+                token.getUpdatedAt(), token.getLastId(), until, PageRequest.of(0, limit + 1));
+        
+        boolean hasMore = rows.size() > limit;
+        List<Employee> changes = hasMore ? rows.subList(0, limit) : rows;
+        String nextToken = changes.isEmpty()
+                ? token.encode()
+                : ChangeToken.after(changes.get(changes.size() - 1)).encode();
+        
+        return new ChangeFeedResponse(changes, hasMore, nextToken);
+    }
+    
     /**
      * Get all active employees
      */
@@ -177,11 +517,34 @@ public class EmployeeService {
             return getAllActiveEmployees();
         }
         
-        return employeeRepository.searchEmployeesByKeyword(keyword.trim());
+        if (!searchIndex.isReady()) {
+            return employeeRepository.searchEmployeesByKeyword(keyword.trim());
+        }
+        
+        return findAllByIdInOrder(searchIndex.search(keyword));
     }
     
     /**
-     * Search employees with pagination
+     * Search employees by keyword, returning summaries
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeSummary> searchEmployeeSummaries(String keyword) {
+        logger.debug("Searching employee summaries with keyword: {}", keyword);
+        
+        if (!StringUtils.hasText(keyword)) {
+            return employeeRepository.findActiveSummaries();
+        }
+        
+        if (!searchIndex.isReady()) {
+            return employeeRepository.searchSummariesByKeyword(keyword.trim());
+        }
+        
+        return findSummariesByIdInOrder(searchIndex.search(keyword));
+    }
+    
+    /**
+     * Search employees with pagination. Result pages are cached by keyword and page
+     * until the next committed write.
      */
     @Transactional(readOnly = true)
     public Page<Employee> searchEmployeesWithPagination(String keyword, Pageable pageable) {
@@ -191,7 +554,42 @@ public class EmployeeService {
             return getAllEmployees(pageable);
         }
         
-        return employeeRepository.searchEmployeesWithPagination(keyword.trim(), pageable);
+        QueryResultCache.Key key = QueryResultCache.Key.of("search", null, null, null, keyword, pageable);
+        return cachedPage(key, pageable, this::findAllByIdInOrder, Employee::getId,
+                () -> querySearchPage(keyword, pageable,
+                        employeeRepository::searchEmployeesWithPagination, this::findAllByIdInOrder));
+    }
+    
+    /**
+     * Search employees with pagination, returning summaries. Shares cached result pages with
+     * {@link #searchEmployeesWithPagination(String, Pageable)}.
+     */
+    @Transactional(readOnly = true)
+    public Page<EmployeeSummary> searchEmployeeSummariesWithPagination(String keyword, Pageable pageable) {
+        logger.debug("Searching employee summaries with keyword: {} and pagination: {}", keyword, pageable);
+        
+        if (!StringUtils.hasText(keyword)) {
+            return getEmployeeSummaries(pageable);
+        }
+        
+        QueryResultCache.Key key = QueryResultCache.Key.of("search", null, null, null, keyword, pageable);
+        return cachedPage(key, pageable, this::findSummariesByIdInOrder, EmployeeSummary::id,
+                () -> querySearchPage(keyword, pageable,
+                        employeeRepository::searchSummariesWithPagination, this::findSummariesByIdInOrder));
+    }
+    
+    private <T> Page<T> querySearchPage(String keyword, Pageable pageable,
+                                        BiFunction<String, Pageable, Page<T>> databaseSearch,
+                                        Function<List<Long>, List<T>> loader) {
+        if (!searchIndex.isReady()) {
+            return databaseSearch.apply(keyword.trim(), pageable);
+        }
+        
+        List<Long> matchingIds = searchIndex.search(keyword);
+        int from = (int) Math.min(pageable.getOffset(), matchingIds.size());
+        int to = Math.min(from + pageable.getPageSize(), matchingIds.size());
+        
+        return new PageImpl<>(loader.apply(matchingIds.subList(from, to)), pageable, matchingIds.size());
     }
     
     /**
@@ -200,66 +598,229 @@ public class EmployeeService {
     @Transactional(readOnly = true)
     public Page<Employee> getEmployeesWithFilters(Department department, EmployeeStatus status, 
                                                 String keyword, Pageable pageable) {
-        logger.debug("Fetching employees with filters - department: {}, status: {}, keyword: {}", 
-                    department, status, keyword);
+        return getEmployeesWithFilters(department, status, null, keyword, pageable);
+    }
+    
+    /**
+     * Get employees with filters, including the active flag.
+     * When the bitmap index is ready, the matching set is an AND of bitmaps (intersected with
+     * the trigram index for keywords), which gives the exact total without a COUNT(*) query;
+     * only the requested page is fetched from the database. Result pages are cached by the
+     * normalized filter until the next committed write to the filtered department.
+     */
+    @Transactional(readOnly = true)
+    public Page<Employee> getEmployeesWithFilters(Department department, EmployeeStatus status, Boolean isActive,
+                                                String keyword, Pageable pageable) {
+        logger.debug("Fetching employees with filters - department: {}, status: {}, active: {}, keyword: {}", 
+                    department, status, isActive, keyword);
         
-        return employeeRepository.findEmployeesWithFilters(department, status, keyword, pageable);
+        QueryResultCache.Key key = QueryResultCache.Key.of("filter", department, status, isActive, keyword, pageable);
+        return cachedPage(key, pageable, this::findAllByIdInOrder, Employee::getId,
+                () -> queryFilteredPage(department, status, isActive, keyword, pageable,
+                        employeeRepository::findFilteredPage));
     }
     
     /**
-     * Get employees by hire date range
+     * Same as {@link #getEmployeesWithFilters(Department, EmployeeStatus, Boolean, String, Pageable)},
+     * returning summaries. Shares cached result pages with it.
      */
     @Transactional(readOnly = true)
-    public List<Employee> getEmployeesByHireDateRange(LocalDate startDate, LocalDate endDate) {
-        logger.debug("Fetching employees by hire date range: {} to {}", startDate, endDate);
+    public Page<EmployeeSummary> getEmployeeSummariesWithFilters(Department department, EmployeeStatus status,
+                                                                 Boolean isActive, String keyword,
+                                                                 Pageable pageable) {
+        logger.debug("Fetching employee summaries with filters - department: {}, status: {}, active: {}, keyword: {}", 
+                    department, status, isActive, keyword);
         
-        if (startDate == null || endDate == null) {
-            throw new InvalidEmployeeDataException("Start date and end date are required");
+        QueryResultCache.Key key = QueryResultCache.Key.of("filter", department, status, isActive, keyword, pageable);
+        return cachedPage(key, pageable, this::findSummariesByIdInOrder, EmployeeSummary::id,
+                () -> queryFilteredPage(department, status, isActive, keyword, pageable,
+                        employeeRepository::findFilteredSummaryPage));
+    }
+    
+    /**
+     * Same as {@link #getEmployeesWithFilters(Department, EmployeeStatus, Boolean, String, Pageable)},
+     * selecting only the requested fields (plus the ID). Shares cached result pages with it.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getEmployeeFieldsWithFilters(List<String> fields, Department department,
+                                                                  EmployeeStatus status, Boolean isActive,
+                                                                  String keyword, Pageable pageable) {
+        logger.debug("Fetching employee fields {} with filters - department: {}, status: {}, active: {}, keyword: {}", 
+                    fields, department, status, isActive, keyword);
+        
+        QueryResultCache.Key key = QueryResultCache.Key.of("filter", department, status, isActive, keyword, pageable);
+        return cachedPage(key, pageable, ids -> findFieldsByIdInOrder(fields, ids), row -> (Long) row.get("id"),
+                () -> queryFilteredPage(department, status, isActive, keyword, pageable,
+                        (dept, st, active, kw, ids, page) -> employeeRepository.findFilteredFieldsPage(
+                                fields, dept, st, active, kw, ids, page)));
+    }
+    
+    private <T> Page<T> queryFilteredPage(Department department, EmployeeStatus status, Boolean isActive,
+                                          String keyword, Pageable pageable, FilteredPageQuery<T> pageQuery) {
+        String trimmedKeyword = StringUtils.hasText(keyword) ? keyword.trim() : null;
+        if (!bitmapIndex.isReady() || (trimmedKeyword != null && !searchIndex.isReady())) {
+            List<T> content = pageQuery.find(
+                    department, status, isActive, trimmedKeyword, null, pageable);
+            long total = employeeRepository.countFiltered(department, status, isActive, trimmedKeyword);
+            return new PageImpl<>(content, pageable, total);
         }
         
-        if (startDate.isAfter(endDate)) {
-            throw new InvalidEmployeeDataException("Start date cannot be after end date");
+        BitSet matches = bitmapIndex.match(department, status, isActive);
+        if (trimmedKeyword != null) {
+            matches.and(bitmapIndex.toBitmap(searchIndex.search(trimmedKeyword, false)));
         }
         
-        return employeeRepository.findActiveEmployeesByHireDateRange(startDate, endDate);
+        long total = matches.cardinality();
+        if (total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        
+        // Small keyword result sets are fetched by ID; otherwise only the present filters become predicates
+        List<Long> ids = null;
+        if (trimmedKeyword != null && total <= MAX_ID_FILTER_SIZE) {
+            ids = Arrays.stream(bitmapIndex.toIds(matches)).boxed().collect(Collectors.toList());
+        }
+        List<T> content = pageQuery.find(
+                department, status, isActive, ids == null ? trimmedKeyword : null, ids, pageable);
+        
+        return new PageImpl<>(content, pageable, total);
     }
     
     /**
-     * Get employees by salary range
+     * Get a page of active employees by hire date range, ordered by hire date
      */
     @Transactional(readOnly = true)
-    public List<Employee> getEmployeesBySalaryRange(BigDecimal minSalary, BigDecimal maxSalary) {
-        logger.debug("Fetching employees by salary range: {} to {}", minSalary, maxSalary);
+    public Page<Employee> getEmployeesByHireDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        logger.debug("Fetching employees by hire date range: {} to {}, page: {}", startDate, endDate, pageable);
         
-        if (minSalary == null || maxSalary == null) {
-            throw new InvalidEmployeeDataException("Minimum and maximum salary are required");
+        validateHireDateRange(startDate, endDate);
+        
+        if (!rangeIndex.isReady()) {
+            return employeeRepository.findActiveEmployeesByHireDateRange(startDate, endDate, pageable);
         }
         
-        if (minSalary.compareTo(maxSalary) > 0) {
-            throw new InvalidEmployeeDataException("Minimum salary cannot be greater than maximum salary");
+        return indexedPage(rangeIndex.idsByHireDateRange(startDate, endDate, pageable.getOffset(), pageable.getPageSize()),
+                rangeIndex.countByHireDateRange(startDate, endDate), pageable, this::findAllByIdInOrder);
+    }
+    
+    /**
+     * Get a page of active employee summaries by hire date range, ordered by hire date
+     */
+    @Transactional(readOnly = true)
+    public Page<EmployeeSummary> getEmployeeSummariesByHireDateRange(LocalDate startDate, LocalDate endDate,
+                                                                     Pageable pageable) {
+        logger.debug("Fetching employee summaries by hire date range: {} to {}, page: {}", startDate, endDate, pageable);
+        
+        validateHireDateRange(startDate, endDate);
+        
+        if (!rangeIndex.isReady()) {
+            return employeeRepository.findActiveSummariesByHireDateRange(startDate, endDate, pageable);
         }
         
-        return employeeRepository.findActiveEmployeesBySalaryRange(minSalary, maxSalary);
+        return indexedPage(rangeIndex.idsByHireDateRange(startDate, endDate, pageable.getOffset(), pageable.getPageSize()),
+                rangeIndex.countByHireDateRange(startDate, endDate), pageable, this::findSummariesByIdInOrder);
     }
     
     /**
-     * Get top paid employees
+     * Count active employees by hire date range
      */
     @Transactional(readOnly = true)
-    public List<Employee> getTopPaidEmployees(int limit) {
-        logger.debug("Fetching top {} paid employees", limit);
+    public long countEmployeesByHireDateRange(LocalDate startDate, LocalDate endDate) {
+        logger.debug("Counting employees by hire date range: {} to {}", startDate, endDate);
         
-        List<Employee> topEmployees = employeeRepository.findTop10ByOrderBySalaryDesc();
-        return topEmployees.stream().limit(limit).collect(Collectors.toList());
+        validateHireDateRange(startDate, endDate);
+        
+        if (!rangeIndex.isReady()) {
+            return employeeRepository.countActiveEmployeesByHireDateRange(startDate, endDate);
+        }
+        
+        return rangeIndex.countByHireDateRange(startDate, endDate);
+    }
+    
+    /**
+     * Get a page of active employees by salary range, ordered by salary
+     */
+    @Transactional(readOnly = true)
+    public Page<Employee> getEmployeesBySalaryRange(BigDecimal minSalary, BigDecimal maxSalary, Pageable pageable) {
+        logger.debug("Fetching employees by salary range: {} to {}, page: {}", minSalary, maxSalary, pageable);
+        
+        validateSalaryRange(minSalary, maxSalary);
+        
+        if (!rangeIndex.isReady()) {
+            return employeeRepository.findActiveEmployeesBySalaryRange(minSalary, maxSalary, pageable);
+        }
+        
+        return indexedPage(rangeIndex.idsBySalaryRange(minSalary, maxSalary, pageable.getOffset(), pageable.getPageSize()),
+                rangeIndex.countBySalaryRange(minSalary, maxSalary), pageable, this::findAllByIdInOrder);
     }
     
     /**
-     * Get employee statistics
+     * Get a page of active employee summaries by salary range, ordered by salary
+     */
+    @Transactional(readOnly = true)
+    public Page<EmployeeSummary> getEmployeeSummariesBySalaryRange(BigDecimal minSalary, BigDecimal maxSalary,
+                                                                   Pageable pageable) {
+        logger.debug("Fetching employee summaries by salary range: {} to {}, page: {}", minSalary, maxSalary, pageable);
+        
+        validateSalaryRange(minSalary, maxSalary);
+        
+        if (!rangeIndex.isReady()) {
+            return employeeRepository.findActiveSummariesBySalaryRange(minSalary, maxSalary, pageable);
+        }
+        
+        return indexedPage(rangeIndex.idsBySalaryRange(minSalary, maxSalary, pageable.getOffset(), pageable.getPageSize()),
+                rangeIndex.countBySalaryRange(minSalary, maxSalary), pageable, this::findSummariesByIdInOrder);
+    }
+    
+    /**
+     * Count active employees by salary range
+     */
+    @Transactional(readOnly = true)
+    public long countEmployeesBySalaryRange(BigDecimal minSalary, BigDecimal maxSalary) {
+        logger.debug("Counting employees by salary range: {} to {}", minSalary, maxSalary);
+        
+        validateSalaryRange(minSalary, maxSalary);
+        
+        if (!rangeIndex.isReady()) {
+            return employeeRepository.countActiveEmployeesBySalaryRange(minSalary, maxSalary);
+        }
+        
+        return rangeIndex.countBySalaryRange(minSalary, maxSalary);
+    }
+    
+    /**
+     * Get top paid employees, optionally restricted to a department and to active employees
+     */
+    @Transactional(readOnly = true)
+    public List<Employee> getTopPaidEmployees(int limit, Department department, boolean activeOnly) {
+        logger.debug("Fetching top {} paid employees - department: {}, activeOnly: {}", limit, department, activeOnly);
+        
+        if (limit <= 0) {
+            throw new InvalidEmployeeDataException("Limit must be greater than zero");
+        }
+        
+        if (!salaryIndex.isReady()) {
+            return employeeRepository.findTopPaid(department, activeOnly, PageRequest.of(0, limit));
+        }
+        
+        return findAllByIdInOrder(salaryIndex.topPaid(limit, department, activeOnly));
+    }
+    
+    /**
+     * Get employee statistics. Concurrent calls at the same data version share one computation.
      */
     @Transactional(readOnly = true)
     public EmployeeStatisticsDTO getEmployeeStatistics() {
         logger.debug("Fetching employee statistics");
         
+        return singleFlight.execute("employeeStatistics", this::computeEmployeeStatistics, dataVersions.global());
+    }
+    
+    private EmployeeStatisticsDTO computeEmployeeStatistics() {
+        if (statisticsStore.isReady()) {
+            return statisticsStore.snapshot();
+        }
+        
         long totalEmployees = employeeRepository.count();
         long activeEmployees = employeeRepository.countByIsActive(true);
         long inactiveEmployees = employeeRepository.countByIsActive(false);
@@ -275,7 +836,29 @@ public class EmployeeService {
                     )
                 ));
         
-        return new EmployeeStatisticsDTO(totalEmployees, activeEmployees, inactiveEmployees, departmentStats);
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (EmployeeStatus status : EmployeeStatus.values()) {
+            statusCounts.put(status.name(), 0L);
+        }
+        for (Object[] row : employeeRepository.getStatusCounts()) {
+            statusCounts.put(((EmployeeStatus) row[0]).name(), (Long) row[1]);
+        }
+        
+        return new EmployeeStatisticsDTO(totalEmployees, activeEmployees, inactiveEmployees, departmentStats,
+                statusCounts);
+    }
+    
+    /**
+     * Get per-department headcount and salary aggregates in a single query.
+     * Concurrent calls (including the department count and salary totals built on it) share one query
+     * when they observe the same data version, so no caller joins a query that began before a write
+     * it has already seen.
+     */
+    @Transactional(readOnly = true)
+    public List<DepartmentAnalyticsDTO> getDepartmentAnalytics() {
+        logger.debug("Fetching department analytics");
+        return singleFlight.execute("departmentAnalytics", employeeRepository::getDepartmentAnalytics,
+                dataVersions.global());
     }
     
     /**
@@ -285,14 +868,18 @@ public class EmployeeService {
     public Map<Department, Long> getEmployeeCountByDepartment() {
         logger.debug("Fetching employee count by department");
         
-        return Map.of(
-            Department.IT, employeeRepository.countByDepartment(Department.IT),
-            Department.HR, employeeRepository.countByDepartment(Department.HR),
-            Department.FINANCE, employeeRepository.countByDepartment(Department.FINANCE),
-            Department.MARKETING, employeeRepository.countByDepartment(Department.MARKETING),
-            Department.OPERATIONS, employeeRepository.countByDepartment(Department.OPERATIONS),
-            Department.SALES, employeeRepository.countByDepartment(Department.SALES)
-        );
+        if (statisticsStore.isReady()) {
+            return statisticsStore.departmentCounts();
+        }
+        
+        Map<Department, Long> counts = new EnumMap<>(Department.class);
+        for (Department department : Department.values()) {
+            counts.put(department, 0L);
+        }
+        for (DepartmentAnalyticsDTO analytics : getDepartmentAnalytics()) {
+            counts.put(analytics.getDepartment(), analytics.getEmployeeCount());
+        }
+        return counts;
     }
     
     /**
@@ -302,13 +889,13 @@ public class EmployeeService {
     public Map<Department, BigDecimal> calculateTotalSalaryByDepartment() {
         logger.debug("Calculating total salary by department");
         
-        List<Employee> activeEmployees = getAllActiveEmployees();
-        
-        return activeEmployees.stream()
-                .collect(Collectors.groupingBy(
-                    Employee::getDepartment,
-                    Collectors.reducing(BigDecimal.ZERO, Employee::getSalary, BigDecimal::add)
-                ));
+        Map<Department, BigDecimal> totals = new EnumMap<>(Department.class);
+        for (DepartmentAnalyticsDTO analytics : getDepartmentAnalytics()) {
+            if (analytics.getActiveCount() > 0) {
+                totals.put(analytics.getDepartment(), analytics.getTotalSalary());
+            }
+        }
+        return totals;
     }
     
     /**
@@ -316,10 +903,7 @@ public class EmployeeService {
      */
     @Transactional(readOnly = true)
     public boolean validateUniqueEmail(String email, Long excludeId) {
-        if (excludeId == null) {
-            return !employeeRepository.existsByEmail(email);
-        }
-        return !employeeRepository.existsByEmailAndIdNot(email, excludeId);
+        return !emailExists(email, excludeId);
     }
     
     /**
@@ -330,6 +914,296 @@ public class EmployeeService {
         logger.debug("Fetching employee by email: {}", email);
         return employeeRepository.findByEmail(email);
     }
+    
+    /**
+     * Export all employees as CSV, streaming rows from a database cursor.
+     * Each row is detached after it is written so memory use stays constant.
+     */
+    @Transactional(readOnly = true)
+    public long exportEmployeesAsCsv(Writer writer) throws IOException {
+        logger.info("Exporting employees as CSV");
+        
+        EmployeeCsvWriter csvWriter = new EmployeeCsvWriter(writer);
+        csvWriter.writeHeader();
+        csvWriter.flush();
+        
+        long rows = forEachRow(employeeRepository.streamAllOrderedById(), csvWriter::write);
+        csvWriter.flush();
+        
+        logger.info("Exported {} employees as CSV", rows);
+        return rows;
+    }
+    
+    /**
+     * Stream all active employees, ordered by ID, to the handler
+     */
+    @Transactional(readOnly = true)
+    public long streamActiveEmployees(EmployeeRowHandler handler) throws IOException {
+        logger.debug("Streaming all active employees");
+        return forEachRow(employeeRepository.streamByIsActive(true), handler);
+    }
+    
+    /**
+     * Stream employees of a department, ordered by ID, to the handler
+     */
+    @Transactional(readOnly = true)
+    public long streamEmployeesByDepartment(Department department, EmployeeRowHandler handler) throws IOException {
+        logger.debug("Streaming employees by department: {}", department);
+        return forEachRow(employeeRepository.streamByDepartment(department), handler);
+    }
+    
+    /**
+     * Stream employees with a status, ordered by ID, to the handler
+     */
+    @Transactional(readOnly = true)
+    public long streamEmployeesByStatus(EmployeeStatus status, EmployeeRowHandler handler) throws IOException {
+        logger.debug("Streaming employees by status: {}", status);
+        return forEachRow(employeeRepository.streamByStatus(status), handler);
+    }
+    
+    /**
+     * Stream keyword search results, ordered by name, to the handler.
+     * A blank keyword streams all active employees, as {@link #searchEmployees(String)} does.
+     * Once the search index is ready, matches come from the index and are loaded in chunks.
+     */
+    @Transactional(readOnly = true)
+    public long streamSearchResults(String keyword, EmployeeRowHandler handler) throws IOException {
+        logger.debug("Streaming employees with keyword: {}", keyword);
+        
+        if (!StringUtils.hasText(keyword)) {
+            return streamActiveEmployees(handler);
+        }
+        if (!searchIndex.isReady()) {
+            return forEachRow(employeeRepository.streamByKeyword(keyword.trim()), handler);
+        }
+        return forEachRow(searchIndex.search(keyword), handler);
+    }
+    
+    /**
+     * Stream active employees hired within the range, ordered by hire date, to the handler
+     */
+    @Transactional(readOnly = true)
+    public long streamEmployeesByHireDateRange(LocalDate startDate, LocalDate endDate,
+                                               EmployeeRowHandler handler) throws IOException {
+        logger.debug("Streaming employees by hire date range: {} to {}", startDate, endDate);
+        
+        validateHireDateRange(startDate, endDate);
+        return forEachRow(employeeRepository.streamActiveEmployeesByHireDateRange(startDate, endDate), handler);
+    }
+    
+    /**
+     * Stream active employees within the salary range, ordered by salary, to the handler
+     */
+    @Transactional(readOnly = true)
+    public long streamEmployeesBySalaryRange(BigDecimal minSalary, BigDecimal maxSalary,
+                                             EmployeeRowHandler handler) throws IOException {
+        logger.debug("Streaming employees by salary range: {} to {}", minSalary, maxSalary);
+        
+        validateSalaryRange(minSalary, maxSalary);
+        return forEachRow(employeeRepository.streamActiveEmployeesBySalaryRange(minSalary, maxSalary), handler);
+    }
+    
+    /**
+     * Hand every row of a database cursor to the handler, detaching each row afterwards so memory
+     * use stays constant. If the handler fails (for example because the client disconnected),
+     * the cursor is closed and the remaining rows are never fetched.
+     */
+    private long forEachRow(Stream<Employee> employees, EmployeeRowHandler handler) throws IOException {
+        long rows = 0;
+        try (employees) {
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                Employee employee = iterator.next();
+                handler.handle(employee);
+                employeeRepository.detach(employee);
+                rows++;
+            }
+        }
+        return rows;
+    }
+    
+    /**
+     * Load the employees with the given IDs in chunks and hand them to the handler in ID-list order,
+     * detaching each chunk once written so only one chunk is held in memory at a time
+     */
+    private long forEachRow(List<Long> ids, EmployeeRowHandler handler) throws IOException {
+        long rows = 0;
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            for (Employee employee : findAllByIdInOrder(chunk)) {
+                handler.handle(employee);
+                employeeRepository.detach(employee);
+                rows++;
+            }
+        }
+        return rows;
+    }
+    
+    /**
+     * Run an action once the current transaction commits, or immediately outside a transaction
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    /**
+     * Check whether another employee already uses the email, skipping the database
+     * when the Bloom filter rules it out
+     */
+    private boolean emailExists(String email, Long excludeId) {
+        boolean consultedFilter = email != null && emailBloomFilter.isReady();
+        if (consultedFilter && !emailBloomFilter.mightContain(email)) {
+            return false;
+        }
+        
+        boolean exists = excludeId == null
+                ? employeeRepository.existsByEmail(email)
+                : employeeRepository.existsByEmailAndIdNot(email, excludeId);
+        if (consultedFilter) {
+            emailBloomFilter.recordConfirmation(exists);
+        }
+        return exists;
+    }
+    
+    /**
+     * Validate a hire date range; public so streaming endpoints can reject it before the response starts
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void validateHireDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new InvalidEmployeeDataException("Start date and end date are required");
+        }
+        
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidEmployeeDataException("Start date cannot be after end date");
+        }
+    }
+    
+    /**
+     * Validate a salary range; public so streaming endpoints can reject it before the response starts
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void validateSalaryRange(BigDecimal minSalary, BigDecimal maxSalary) {
+        if (minSalary == null || maxSalary == null) {
+            throw new InvalidEmployeeDataException("Minimum and maximum salary are required");
+        }
+        
+        if (minSalary.compareTo(maxSalary) > 0) {
+            throw new InvalidEmployeeDataException("Minimum salary cannot be greater than maximum salary");
+        }
+    }
+    
+    /**
+     * Serve a list page from the query result cache, or run the query and cache its IDs.
+     * The version is read before querying, so a write committed meanwhile makes the entry stale.
+     */
+    private <T> Page<T> cachedPage(QueryResultCache.Key key, Pageable pageable, Function<List<Long>, List<T>> loader,
+                                   Function<T, Long> idOf, Supplier<Page<T>> query) {
+        QueryResultCache.IdPage cached = queryResultCache.get(key);
+        if (cached != null) {
+            return new PageImpl<>(loader.apply(cached.ids()), pageable, cached.total());
+        }
+        
+        long version = queryResultCache.version(key);
+        Page<T> page = query.get();
+        queryResultCache.put(key, version,
+                page.getContent().stream().map(idOf).collect(Collectors.toList()), page.getTotalElements());
+        return page;
+    }
+    
+    private void bumpVersionsAfterCommit(Collection<Department> departments) {
+        afterCommit(() -> dataVersions.bump(departments));
+    }
+    
+    /**
+     * Build a page from one page of index IDs; only those IDs are boxed and loaded
+     */
+    private <T> Page<T> indexedPage(long[] pageIds, long total, Pageable pageable,
+                                    Function<List<Long>, List<T>> loader) {
+        List<Long> ids = Arrays.stream(pageIds).boxed().collect(Collectors.toList());
+        return new PageImpl<>(loader.apply(ids), pageable, total);
+    }
+    
+    /**
+     * Load employees by ID, preserving the order of the given ID list. IDs are sent in chunks
+     * so a large list never becomes a single unbounded IN clause.
+     */
+    private List<Employee> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Employee> employeesById = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            for (Employee employee : employeeRepository.findAllById(
+                    ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())))) {
+                employeesById.put(employee.getId(), employee);
+            }
+        }
+        
+        return ids.stream()
+                .map(employeesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Load employee summaries by ID in chunks, preserving the order of the given ID list
+     */
+    private List<EmployeeSummary> findSummariesByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, EmployeeSummary> summariesById = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            for (EmployeeSummary summary : employeeRepository.findSummariesByIdIn(
+                    ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())))) {
+                summariesById.put(summary.id(), summary);
+            }
+        }
+        
+        return ids.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Load the requested fields of employees by ID, preserving the order of the given ID list
+     */
+    private List<Map<String, Object>> findFieldsByIdInOrder(List<String> fields, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Map<String, Object>> rowsById = employeeRepository.findFieldsByIdIn(fields, ids).stream()
+                .collect(Collectors.toMap(row -> (Long) row.get("id"), Function.identity()));
+        
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * One page of a filtered query, as entities, summaries or selected fields
+     */
+    @FunctionalInterface
+    private interface FilteredPageQuery<T> {
+        List<T> find(Department department, EmployeeStatus status, Boolean isActive, String keyword,
+                     Collection<Long> ids, Pageable pageable);
+    }
 }
 
 
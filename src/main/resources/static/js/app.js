@@ -39,6 +39,9 @@ function initializeApplication() {
     
     // Initialize auto-save functionality
     initializeAutoSave();
+    
+    // Initialize live updates
+    initializeLiveUpdates();
 }
 
 /**
@@ -449,6 +452,88 @@ function restoreAutoSavedData(form) {
     }
 }
 
+/**
+ * Initialize live updates: subscribe to pushed employee changes and apply them in place
+ */
+function initializeLiveUpdates() {
+    const table = document.querySelector('[data-live-updates]');
+    if (!table || !window.EventSource) return;
+    
+    // EventSource reconnects on its own after a dropped connection
+    const source = new EventSource('/api/employees/live');
+    source.addEventListener('changes', function(e) {
+        const update = JSON.parse(e.data);
+        applyEmployeeChanges(table, update.changes);
+        if (update.statistics) {
+            applyStatistics(update.statistics);
+        }
+    });
+    
+    window.addEventListener('beforeunload', function() {
+        source.close();
+    });
+}
+
+/**
+ * Update the rows of changed employees shown on the current page
+ */
+function applyEmployeeChanges(table, changes) {
+    let created = 0;
+    
+    changes.forEach(change => {
+        const row = table.querySelector(`tr[data-employee-id="${change.id}"]`);
+        if (!row) {
+            if (change.type === 'CREATED') created++;
+            return;
+        }
+        
+        row.querySelectorAll('[data-live-field]').forEach(element => {
+            const field = element.dataset.liveField;
+            if (field === 'salary') {
+                element.textContent = '$' + Number(change.salary).toFixed(2);
+            } else if (change[field] != null) {
+                element.textContent = change[field];
+            }
+        });
+        
+        const statusBadge = row.querySelector('[data-live-field="statusName"]');
+        if (statusBadge) {
+            statusBadge.className = 'badge ' + statusBadgeClass(change.status);
+        }
+        
+        row.classList.add('table-info');
+        setTimeout(() => row.classList.remove('table-info'), 1500);
+    });
+    
+    if (created > 0) {
+        showAlert(`${created} new employee${created > 1 ? 's' : ''} added. Reload the page to see them.`, 'info');
+    }
+}
+
+/**
+ * Update the statistics cards from a pushed snapshot
+ */
+function applyStatistics(statistics) {
+    document.querySelectorAll('[data-live-stat]').forEach(element => {
+        const value = statistics[element.dataset.liveStat];
+        if (value != null) {
+            element.textContent = value;
+        }
+    });
+}
+
+/**
+ * Badge class for an employee status, matching the list template
+ */
+function statusBadgeClass(status) {
+    switch (status) {
+        case 'ACTIVE': return 'bg-success';
+        case 'ON_LEAVE': return 'bg-warning';
+        case 'TERMINATED': return 'bg-danger';
+        default: return 'bg-secondary';
+    }
+}
+
 /**
  * Show alert message
  */
@@ -0,0 +1,85 @@
+package com.employeems.benchmark;
+
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import com.employeems.json.EmployeeJsonComponent;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared fixtures for the benchmarks: realistic employees and mappers configured like the application's
+ */
+final class BenchmarkEmployees {
+    
+    private static final String[] FIRST_NAMES = {"Ada", "Grace", "Alan", "Zoë", "Linus", "Margaret", "Dennis"};
+    private static final String[] LAST_NAMES = {"Lovelace", "Hopper", "Turing", "Ólafsdóttir", "Torvalds"};
+    private static final String[] POSITIONS = {"Software Engineer", "Analyst", "Account Manager", "Recruiter"};
+    
+    private BenchmarkEmployees() {
+    }
+    
+    /**
+     * Deterministic employees with every field populated, as loaded from the database
+     */
+    static List<Employee> employees(int count) {
+        Random random = new Random(42);
+        Department[] departments = Department.values();
+        EmployeeStatus[] statuses = EmployeeStatus.values();
+        LocalDateTime created = LocalDateTime.of(2023, 1, 1, 9, 0);
+        
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            Employee employee = new Employee(firstName, lastName,
+                    firstName.toLowerCase() + "." + i + "@example.com",
+                    departments[random.nextInt(departments.length)],
+                    POSITIONS[random.nextInt(POSITIONS.length)],
+                    BigDecimal.valueOf(3_000_000 + random.nextInt(12_000_000), 2),
+                    LocalDate.of(2010, 1, 1).plusDays(random.nextInt(5000)));
+            employee.setId((long) i);
+            employee.setPhoneNumber("+1-555-555-" + (1000 + random.nextInt(9000)));
+            employee.setStatus(statuses[random.nextInt(statuses.length)]);
+            employee.setIsActive(random.nextInt(10) > 0);
+            employee.setCreatedAt(created.plusSeconds(i));
+            employee.setUpdatedAt(created.plusSeconds(i).plusNanos(random.nextInt(1_000_000_000)));
+            employees.add(employee);
+        }
+        return employees;
+    }
+    
+    /**
+     * A mapper with the application's Jackson settings, using reflective bean serialization for Employee
+     */
+    static ObjectMapper beanMapper(JsonFactory factory) {
+        return builder().factory(factory).build();
+    }
+    
+    /**
+     * A mapper with the application's Jackson settings and the hand-written Employee codec, as served at runtime
+     */
+    static ObjectMapper componentMapper(JsonFactory factory) {
+        return builder()
+                .factory(factory)
+                .modulesToInstall(new SimpleModule()
+                        .addSerializer(Employee.class, new EmployeeJsonComponent.Serializer())
+                        .addDeserializer(Employee.class, new EmployeeJsonComponent.Deserializer()))
+                .build();
+    }
+    
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
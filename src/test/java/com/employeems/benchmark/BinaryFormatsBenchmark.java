@@ -0,0 +1,68 @@
+package com.employeems.benchmark;
+
+import com.employeems.entity.Employee;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON, CBOR and Smile encoding of a 100,000-employee page through the application's mappers.
+ * The encoded size of the page is printed once per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BinaryFormatsBenchmark {
+    
+    @Param({"json", "cbor", "smile"})
+    public String format;
+    
+    private List<Employee> employees;
+    private ObjectMapper mapper;
+    private JavaType listType;
+    private byte[] encoded;
+    
+    @Setup
+    public void setUp() throws IOException {
+        employees = BenchmarkEmployees.employees(100_000);
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = BenchmarkEmployees.componentMapper(factory);
+        listType = mapper.getTypeFactory().constructCollectionType(List.class, Employee.class);
+        encoded = mapper.writeValueAsBytes(employees);
+        System.out.printf("%s page: %,d bytes%n", format, encoded.length);
+    }
+    
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(employees);
+    }
+    
+    @Benchmark
+    public List<Employee> decode() throws IOException {
+        return mapper.readValue(encoded, listType);
+    }
+}
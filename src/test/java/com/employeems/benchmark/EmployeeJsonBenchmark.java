@@ -0,0 +1,68 @@
+package com.employeems.benchmark;
+
+import com.employeems.entity.Employee;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-written {@code EmployeeJsonComponent} codec against Jackson's reflective bean codec,
+ * encoding and decoding a 1,000-employee list to and from JSON bytes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+    
+    private List<Employee> employees;
+    private ObjectMapper beanMapper;
+    private ObjectMapper componentMapper;
+    private JavaType listType;
+    private byte[] json;
+    
+    @Setup
+    public void setUp() throws IOException {
+        employees = BenchmarkEmployees.employees(1_000);
+        beanMapper = BenchmarkEmployees.beanMapper(new JsonFactory());
+        componentMapper = BenchmarkEmployees.componentMapper(new JsonFactory());
+        listType = beanMapper.getTypeFactory().constructCollectionType(List.class, Employee.class);
+        json = componentMapper.writeValueAsBytes(employees);
+    }
+    
+    @Benchmark
+    public byte[] writeBean() throws IOException {
+        return beanMapper.writeValueAsBytes(employees);
+    }
+    
+    @Benchmark
+    public byte[] writeHandWritten() throws IOException {
+        return componentMapper.writeValueAsBytes(employees);
+    }
+    
+    @Benchmark
+    public List<Employee> readBean() throws IOException {
+        return beanMapper.readValue(json, listType);
+    }
+    
+    @Benchmark
+    public List<Employee> readHandWritten() throws IOException {
+        return componentMapper.readValue(json, listType);
+    }
+}
@@ -0,0 +1,103 @@
+package com.employeems.benchmark;
+
+import com.employeems.EmployeeManagementSystemApplication;
+import com.employeems.dto.EmployeeSummary;
+import com.employeems.entity.Employee;
+import com.employeems.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A 1,000-row list page read as managed {@link Employee} entities against the {@link EmployeeSummary}
+ * projection, then both serialized to JSON. Runs against the in-memory H2 database holding 20,000
+ * employees; the JSON size per row of each shape is printed once per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ListProjectionBenchmark {
+    
+    private static final int EMPLOYEES = 20_000;
+    private static final int PAGE_SIZE = 1_000;
+    
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository repository;
+    private ObjectMapper objectMapper;
+    private Pageable page;
+    
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(EmployeeManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.employeems=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--employeems.journal.dir=" + Files.createTempDirectory("employeems-journal"));
+        repository = context.getBean(EmployeeRepository.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        
+        List<Employee> employees = BenchmarkEmployees.employees(EMPLOYEES);
+        employees.forEach(employee -> employee.setId(null));
+        for (int from = 0; from < EMPLOYEES; from += PAGE_SIZE) {
+            repository.saveAll(employees.subList(from, from + PAGE_SIZE));
+        }
+        
+        // A page from the middle of the table
+        page = PageRequest.of(EMPLOYEES / PAGE_SIZE / 2, PAGE_SIZE, Sort.by("id"));
+        System.out.printf("JSON per row: entity %,d bytes, summary %,d bytes%n",
+                objectMapper.writeValueAsBytes(repository.findAll(page).getContent()).length / PAGE_SIZE,
+                objectMapper.writeValueAsBytes(repository.findAllSummaries(page).getContent()).length / PAGE_SIZE);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Page<Employee> queryEntities() {
+        return repository.findAll(page);
+    }
+    
+    @Benchmark
+    public Page<EmployeeSummary> querySummaries() {
+        return repository.findAllSummaries(page);
+    }
+    
+    @Benchmark
+    public byte[] queryAndWriteEntities() throws IOException {
+        return objectMapper.writeValueAsBytes(repository.findAll(page).getContent());
+    }
+    
+    @Benchmark
+    public byte[] queryAndWriteSummaries() throws IOException {
+        return objectMapper.writeValueAsBytes(repository.findAllSummaries(page).getContent());
+    }
+}
@@ -0,0 +1,69 @@
+package com.employeems.index;
+
+import com.employeems.entity.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailBloomFilterTest {
+    
+    private static final int INSERTIONS = 5_000;
+    
+    private final EmailBloomFilter filter = new EmailBloomFilter(INSERTIONS, 0.01, new SimpleMeterRegistry());
+    
+    @Test
+    void hasNoFalseNegatives() {
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.index(employee("user" + i + "@example.com"));
+        }
+        
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).as("user%d", i).isTrue();
+        }
+    }
+    
+    @Test
+    void matchesNormalizedEmails() {
+        filter.index(employee("  Ada.Lovelace@Example.COM "));
+        
+        assertThat(filter.mightContain("ada.lovelace@example.com")).isTrue();
+        assertThat(filter.mightContain("ADA.LOVELACE@EXAMPLE.COM  ")).isTrue();
+    }
+    
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.index(employee("user" + i + "@example.com"));
+        }
+        
+        int falsePositives = 0;
+        int probes = 20_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+        
+        assertThat((double) falsePositives / probes).isLessThan(0.03);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.001, 0.03);
+    }
+    
+    @Test
+    void clearForgetsEveryEmail() {
+        filter.index(employee("ada@example.com"));
+        filter.markReady();
+        
+        filter.clear();
+        
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain("ada@example.com")).isFalse();
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+    }
+    
+    private static Employee employee(String email) {
+        Employee employee = new Employee();
+        employee.setEmail(email);
+        return employee;
+    }
+}
@@ -0,0 +1,61 @@
+package com.employeems.index;
+
+import com.employeems.dto.EmployeeStatisticsDTO;
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class EmployeeStatisticsStoreTest {
+    
+    private final EmployeeStatisticsStore store = new EmployeeStatisticsStore();
+    
+    @BeforeEach
+    void buildStore() {
+        store.index(employee(1L, Department.IT, EmployeeStatus.ACTIVE, true, "50000.00"));
+        store.index(employee(2L, Department.IT, EmployeeStatus.ON_LEAVE, true, "70000.00"));
+        store.index(employee(3L, Department.HR, EmployeeStatus.TERMINATED, false, "40000.00"));
+        store.markReady();
+    }
+    
+    @Test
+    void countsEveryStatusOverAllEmployees() {
+        EmployeeStatisticsDTO statistics = store.snapshot();
+        
+        assertThat(statistics.getTotalEmployees()).isEqualTo(3);
+        assertThat(statistics.getActiveEmployees()).isEqualTo(2);
+        assertThat(statistics.getStatusCounts()).containsExactly(
+                entry("ACTIVE", 1L), entry("INACTIVE", 0L), entry("ON_LEAVE", 1L), entry("TERMINATED", 1L));
+    }
+    
+    @Test
+    void updatesMoveCountsBetweenGroups() {
+        store.index(employee(2L, Department.HR, EmployeeStatus.ACTIVE, false, "70000.00"));
+        
+        EmployeeStatisticsDTO statistics = store.snapshot();
+        
+        assertThat(statistics.getActiveEmployees()).isEqualTo(1);
+        assertThat(statistics.getStatusCounts()).contains(entry("ACTIVE", 2L), entry("ON_LEAVE", 0L));
+        assertThat(store.departmentCounts()).contains(entry(Department.IT, 1L), entry(Department.HR, 2L));
+        assertThat(statistics.getDepartmentStats())
+                .containsOnly(entry("IT", Map.of("count", 1L, "avgSalary", new BigDecimal("50000.00"))));
+    }
+    
+    private static Employee employee(Long id, Department department, EmployeeStatus status, boolean active,
+                                     String salary) {
+        Employee employee = new Employee("First" + id, "Last" + id, "employee" + id + "@example.com",
+                department, "Engineer", new BigDecimal(salary), LocalDate.of(2020, 1, 1));
+        employee.setId(id);
+        employee.setStatus(status);
+        employee.setIsActive(active);
+        return employee;
+    }
+}
@@ -0,0 +1,92 @@
+package com.employeems.index;
+
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RangeIndexTest {
+    
+    private final RangeIndex index = new RangeIndex();
+    
+    @BeforeEach
+    void buildIndex() {
+        index.index(employee(1L, "50000.00", LocalDate.of(2020, 1, 1), true));
+        index.index(employee(2L, "60000.50", LocalDate.of(2021, 6, 15), true));
+        index.index(employee(3L, "70000.00", LocalDate.of(2022, 3, 1), true));
+        index.index(employee(4L, "65000.00", LocalDate.of(2021, 1, 1), false));
+        index.markReady();
+    }
+    
+    @Test
+    void salaryRangeIsInclusiveAndOrderedBySalary() {
+        assertThat(index.idsBySalaryRange(new BigDecimal("50000"), new BigDecimal("70000"))).containsExactly(1, 2, 3);
+        assertThat(index.idsBySalaryRange(new BigDecimal("60000.50"), new BigDecimal("60000.50"))).containsExactly(2);
+        assertThat(index.countBySalaryRange(new BigDecimal("55000"), new BigDecimal("80000"))).isEqualTo(2);
+    }
+    
+    @Test
+    void rangePagesFollowTheRangeOrder() {
+        BigDecimal min = new BigDecimal("50000");
+        BigDecimal max = new BigDecimal("70000");
+        
+        assertThat(index.idsBySalaryRange(min, max, 1, 1)).containsExactly(2);
+        assertThat(index.idsBySalaryRange(min, max, 2, 10)).containsExactly(3);
+        assertThat(index.idsBySalaryRange(min, max, 3, 10)).isEmpty();
+        assertThat(index.idsByHireDateRange(LocalDate.of(2020, 1, 1), LocalDate.of(2022, 3, 1), 0, 2))
+                .containsExactly(1, 2);
+    }
+    
+    @Test
+    void fractionalCentBoundsRoundInward() {
+        assertThat(index.idsBySalaryRange(new BigDecimal("60000.501"), new BigDecimal("80000"))).containsExactly(3);
+        assertThat(index.idsBySalaryRange(new BigDecimal("0"), new BigDecimal("60000.499"))).containsExactly(1);
+    }
+    
+    @Test
+    void outOfRangeBoundsSaturate() {
+        assertThat(index.idsBySalaryRange(BigDecimal.ZERO, new BigDecimal("1e20"))).containsExactly(1, 2, 3);
+        assertThat(index.countBySalaryRange(new BigDecimal("-1e20"), new BigDecimal("1e20"))).isEqualTo(3);
+        assertThat(index.countBySalaryRange(new BigDecimal("1e20"), new BigDecimal("1e21"))).isZero();
+    }
+    
+    @Test
+    void updatesMoveAndDropEntries() {
+        index.index(employee(1L, "90000.00", LocalDate.of(2020, 1, 1), true));
+        index.index(employee(2L, "60000.50", LocalDate.of(2021, 6, 15), false));
+        
+        assertThat(index.idsBySalaryRange(BigDecimal.ZERO, new BigDecimal("100000"))).containsExactly(3, 1);
+        assertThat(index.idsByHireDateRange(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31))).isEmpty();
+    }
+    
+    @Test
+    void hireDateRangeIsInclusive() {
+        assertThat(index.idsByHireDateRange(LocalDate.of(2020, 1, 1), LocalDate.of(2022, 3, 1)))
+                .containsExactly(1, 2, 3);
+        assertThat(index.countByHireDateRange(LocalDate.of(2020, 1, 2), LocalDate.of(2022, 2, 28))).isEqualTo(1);
+    }
+    
+    @Test
+    void boundCentsClampToLongRange() {
+        assertThat(SalaryCents.toBoundCents(new BigDecimal("1e20"), RoundingMode.FLOOR))
+                .isEqualTo(Long.MAX_VALUE);
+        assertThat(SalaryCents.toBoundCents(new BigDecimal("-1e20"), RoundingMode.CEILING))
+                .isEqualTo(Long.MIN_VALUE);
+        assertThat(SalaryCents.toBoundCents(new BigDecimal("12.345"), RoundingMode.CEILING))
+                .isEqualTo(1235);
+    }
+    
+    private static Employee employee(Long id, String salary, LocalDate hireDate, boolean active) {
+        Employee employee = new Employee("First" + id, "Last" + id, "employee" + id + "@example.com",
+                Department.IT, "Engineer", new BigDecimal(salary), hireDate);
+        employee.setId(id);
+        employee.setIsActive(active);
+        return employee;
+    }
+}
@@ -0,0 +1,73 @@
+package com.employeems.index;
+
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalaryIndexTest {
+    
+    private final SalaryIndex index = new SalaryIndex();
+    
+    @BeforeEach
+    void buildIndex() {
+        index.index(employee(1L, Department.IT, "90000.00", true));
+        index.index(employee(2L, Department.HR, "80000.00", true));
+        index.index(employee(3L, Department.IT, "80000.00", false));
+        index.index(employee(4L, Department.IT, "50000.00", true));
+        index.markReady();
+    }
+    
+    @Test
+    void topPaidIsHighestFirstWithTiesByIdPerScope() {
+        assertThat(index.topPaid(3, null, false)).containsExactly(1L, 2L, 3L);
+        assertThat(index.topPaid(10, Department.IT, true)).containsExactly(1L, 4L);
+        assertThat(index.topPaid(1, Department.HR, false)).containsExactly(2L);
+        assertThat(index.topPaid(5, Department.FINANCE, false)).isEmpty();
+    }
+    
+    @Test
+    void updatesMoveEmployeesBetweenScopes() {
+        index.index(employee(4L, Department.HR, "95000.00", true));
+        index.index(employee(1L, Department.IT, "90000.00", false));
+        
+        assertThat(index.topPaid(10, null, true)).containsExactly(4L, 2L);
+        assertThat(index.topPaid(10, Department.IT, false)).containsExactly(1L, 3L);
+        assertThat(index.topPaid(10, Department.HR, false)).containsExactly(4L, 2L);
+    }
+    
+    @Test
+    void readersNeverSeeAnEmployeeMissingMidUpdate() throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                index.index(employee(2L, Department.HR, i % 2 == 0 ? "70000.00" : "85000.00", true));
+            }
+        });
+        writer.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                List<Long> top = index.topPaid(4, null, false);
+                assertThat(top).hasSize(4).contains(2L);
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+    
+    private static Employee employee(Long id, Department department, String salary, boolean active) {
+        Employee employee = new Employee("First" + id, "Last" + id, "employee" + id + "@example.com",
+                department, "Engineer", new BigDecimal(salary), LocalDate.of(2020, 1, 1));
+        employee.setId(id);
+        employee.setIsActive(active);
+        return employee;
+    }
+}
@@ -0,0 +1,98 @@
+package com.employeems.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedLongIndexTest {
+    
+    @Test
+    void ofSortsByKeyThenId() {
+        Random random = new Random(42);
+        int size = 10_000;
+        long[] keys = new long[size];
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            // Few distinct keys, so most comparisons fall through to the ID tie-breaker
+            keys[i] = random.nextInt(50) - 25;
+            ids[i] = i;
+        }
+        
+        SortedLongIndex index = SortedLongIndex.of(keys, ids, size);
+        
+        long[] expected = IntStream.range(0, size).boxed()
+                .sorted(Comparator.<Integer>comparingLong(i -> keys[i]).thenComparingLong(i -> ids[i]))
+                .mapToLong(i -> ids[i])
+                .toArray();
+        assertThat(index.size()).isEqualTo(size);
+        assertThat(index.ids(Long.MIN_VALUE, Long.MAX_VALUE)).containsExactly(expected);
+    }
+    
+    @Test
+    void ofHandlesSortedReversedAndTinyInputs() {
+        long[] ascending = {1, 2, 3, 4, 5};
+        long[] descending = {5, 4, 3, 2, 1};
+        
+        assertThat(SortedLongIndex.of(ascending, ascending, 5).ids(Long.MIN_VALUE, Long.MAX_VALUE))
+                .containsExactly(1, 2, 3, 4, 5);
+        assertThat(SortedLongIndex.of(descending, descending, 5).ids(Long.MIN_VALUE, Long.MAX_VALUE))
+                .containsExactly(1, 2, 3, 4, 5);
+        assertThat(SortedLongIndex.of(new long[0], new long[0], 0).size()).isZero();
+        assertThat(SortedLongIndex.of(new long[]{7}, new long[]{3}, 1).ids(7, 7)).containsExactly(3);
+    }
+    
+    @Test
+    void rangeBoundsAreInclusive() {
+        SortedLongIndex index = SortedLongIndex.of(new long[]{10, 20, 20, 30}, new long[]{1, 2, 3, 4}, 4);
+        
+        assertThat(index.ids(20, 20)).containsExactly(2, 3);
+        assertThat(index.ids(10, 30)).containsExactly(1, 2, 3, 4);
+        assertThat(index.ids(11, 29)).containsExactly(2, 3);
+        assertThat(index.ids(31, 40)).isEmpty();
+        assertThat(index.ids(Long.MIN_VALUE, 9)).isEmpty();
+        assertThat(index.count(20, 30)).isEqualTo(3);
+        assertThat(index.count(Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(4);
+    }
+    
+    @Test
+    void pagesSliceTheRangeInKeyOrder() {
+        SortedLongIndex index = SortedLongIndex.of(new long[]{10, 20, 20, 30, 40}, new long[]{1, 2, 3, 4, 5}, 5);
+        
+        assertThat(index.ids(20, 40, 0, 2)).containsExactly(2, 3);
+        assertThat(index.ids(20, 40, 2, 2)).containsExactly(4, 5);
+        assertThat(index.ids(20, 40, 3, 10)).containsExactly(5);
+        assertThat(index.ids(20, 40, 4, 2)).isEmpty();
+        assertThat(index.ids(20, 40, Long.MAX_VALUE - 1, Integer.MAX_VALUE)).isEmpty();
+        assertThat(index.ids(40, 20, 0, 2)).isEmpty();
+    }
+    
+    @Test
+    void reversedRangeIsEmpty() {
+        SortedLongIndex index = SortedLongIndex.of(new long[]{10, 20}, new long[]{1, 2}, 2);
+        
+        assertThat(index.ids(20, 10)).isEmpty();
+        assertThat(index.count(20, 10)).isZero();
+    }
+    
+    @Test
+    void insertAndRemoveKeepOrder() {
+        SortedLongIndex index = new SortedLongIndex();
+        for (long id = 40; id >= 1; id--) {
+            index.insert(id % 4, id);
+        }
+        index.insert(0, 4);
+        index.remove(1, 5);
+        index.remove(2, 99);
+        
+        long[] ids = index.ids(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertThat(index.size()).isEqualTo(39);
+        assertThat(ids).doesNotContain(5);
+        assertThat(Arrays.copyOf(ids, 3)).containsExactly(4, 8, 12);
+        assertThat(index.count(1, 1)).isEqualTo(9);
+    }
+}
@@ -0,0 +1,113 @@
+package com.employeems.index;
+
+import com.employeems.entity.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramSearchIndexTest {
+    
+    private final TrigramSearchIndex index = new TrigramSearchIndex();
+    
+    @BeforeEach
+    void buildIndex() {
+        index.index(employee(1L, "Grace", "Hopper", "grace.hopper@example.com", "Rear Admiral"));
+        index.index(employee(2L, "Ada", "Lovelace", "ada@example.com", "Analyst"));
+        index.index(employee(3L, "Alan", "Turing", "alan.turing@example.com", "Cryptanalyst"));
+        index.index(employee(4L, "Ada", "Byron", "byron@example.org", "Engineer"));
+        index.markReady();
+    }
+    
+    @Test
+    void findsSubstringsInAnyFieldIgnoringCase() {
+        assertThat(index.search("HOPP")).containsExactly(1L);
+        assertThat(index.search("example.org")).containsExactly(4L);
+        assertThat(index.search("  turing ")).containsExactly(3L);
+        assertThat(index.search("nobody")).isEmpty();
+    }
+    
+    @Test
+    void ordersByFirstNameLastNameThenId() {
+        assertThat(index.search("example")).containsExactly(4L, 2L, 3L, 1L);
+    }
+    
+    @Test
+    void shortKeywordsFallBackToScanningEveryDocument() {
+        assertThat(index.search("ad")).containsExactly(4L, 2L, 1L);
+        assertThat(index.search("a")).hasSize(4);
+    }
+    
+    @Test
+    void positionMatchesCanBeExcluded() {
+        assertThat(index.search("analyst")).containsExactly(2L, 3L);
+        assertThat(index.search("analyst", false)).isEmpty();
+    }
+    
+    @Test
+    void reindexingReplacesOldPostings() {
+        index.index(employee(2L, "Augusta", "King", "augusta@example.com", "Analyst"));
+        
+        assertThat(index.search("lovelace")).isEmpty();
+        assertThat(index.search("augusta")).containsExactly(2L);
+    }
+    
+    @Test
+    void agreesWithBruteForceSearch() {
+        TrigramSearchIndex randomIndex = new TrigramSearchIndex();
+        Random random = new Random(7);
+        List<Employee> employees = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            Employee employee = employee(id, word(random), word(random), word(random) + "@example.com", word(random));
+            employees.add(employee);
+            randomIndex.index(employee);
+        }
+        
+        for (int i = 0; i < 200; i++) {
+            String keyword = word(random).substring(0, 2 + random.nextInt(3));
+            List<Long> expected = employees.stream()
+                    .filter(employee -> matches(employee, keyword))
+                    .sorted(Comparator.comparing((Employee employee) -> employee.getFirstName().toLowerCase(Locale.ROOT))
+                            .thenComparing(employee -> employee.getLastName().toLowerCase(Locale.ROOT))
+                            .thenComparing(Employee::getId))
+                    .map(Employee::getId)
+                    .collect(Collectors.toList());
+            
+            assertThat(randomIndex.search(keyword)).as(keyword).isEqualTo(expected);
+        }
+    }
+    
+    private static boolean matches(Employee employee, String keyword) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        return employee.getFirstName().toLowerCase(Locale.ROOT).contains(needle)
+                || employee.getLastName().toLowerCase(Locale.ROOT).contains(needle)
+                || employee.getEmail().toLowerCase(Locale.ROOT).contains(needle)
+                || employee.getPosition().toLowerCase(Locale.ROOT).contains(needle);
+    }
+    
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 4 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append("abcdeilmnorst".charAt(random.nextInt(13)));
+        }
+        return word.toString();
+    }
+    
+    private static Employee employee(Long id, String firstName, String lastName, String email, String position) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(email);
+        employee.setPosition(position);
+        return employee;
+    }
+}
@@ -0,0 +1,106 @@
+package com.employeems.journal;
+
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.events.EmployeeChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeJournalTest {
+    
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    
+    @TempDir
+    Path directory;
+    
+    private ChangeJournal journal;
+    
+    @AfterEach
+    void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+    
+    @Test
+    void replayAndTailReadBackAppendedChanges() throws IOException {
+        journal = open(4096);
+        journal.onChanges(List.of(change(EmployeeChangeEvent.Type.CREATED, 1L, "Ada"),
+                change(EmployeeChangeEvent.Type.CREATED, 2L, "Grace")));
+        journal.onChanges(List.of(change(EmployeeChangeEvent.Type.UPDATED, 1L, "Ada B")));
+        
+        assertThat(journal.lastSequence()).isEqualTo(3);
+        assertThat(journal.replay(2, 10)).extracting(JournalRecord::sequence).containsExactly(2L, 3L);
+        assertThat(journal.tail(1)).singleElement()
+                .satisfies(record -> assertThat(record.employee().getFirstName()).isEqualTo("Ada B"));
+    }
+    
+    @Test
+    void rollsSegmentsAndReadsAcrossThem() throws IOException {
+        journal = open(512);
+        for (long id = 1; id <= 10; id++) {
+            journal.onChanges(List.of(change(EmployeeChangeEvent.Type.CREATED, id, "Employee" + id)));
+        }
+        
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isGreaterThan(1);
+        }
+        assertThat(journal.replay(1, 100)).extracting(JournalRecord::employeeId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(journal.replay(7, 2)).extracting(JournalRecord::sequence).containsExactly(7L, 8L);
+    }
+    
+    @Test
+    void reopenContinuesTheSequence() throws IOException {
+        journal = open(512);
+        for (long id = 1; id <= 6; id++) {
+            journal.onChanges(List.of(change(EmployeeChangeEvent.Type.CREATED, id, "Employee" + id)));
+        }
+        journal.close();
+        
+        journal = open(512);
+        assertThat(journal.lastSequence()).isEqualTo(6);
+        journal.onChanges(List.of(change(EmployeeChangeEvent.Type.DELETED, 3L, "Employee3")));
+        
+        assertThat(journal.lastSequence()).isEqualTo(7);
+        assertThat(journal.history(3L)).extracting(JournalRecord::type)
+                .containsExactly(EmployeeChangeEvent.Type.CREATED, EmployeeChangeEvent.Type.DELETED);
+    }
+    
+    @Test
+    void historyCollapsesRedeliveredDuplicates() throws IOException {
+        journal = open(4096);
+        EmployeeChangeEvent created = change(EmployeeChangeEvent.Type.CREATED, 1L, "Ada");
+        journal.onChanges(List.of(created));
+        journal.onChanges(List.of(created));
+        
+        assertThat(journal.lastSequence()).isEqualTo(2);
+        assertThat(journal.history(1L)).hasSize(1);
+    }
+    
+    private ChangeJournal open(int segmentSize) throws IOException {
+        ChangeJournal opened = new ChangeJournal(directory.toString(), segmentSize, objectMapper);
+        opened.open();
+        return opened;
+    }
+    
+    private static EmployeeChangeEvent change(EmployeeChangeEvent.Type type, Long id, String firstName) {
+        Employee employee = new Employee(firstName, "Lovelace", "employee" + id + "@example.com",
+                Department.IT, "Engineer", new BigDecimal("85000.00"), LocalDate.of(2020, 1, 15));
+        employee.setId(id);
+        return new EmployeeChangeEvent(type, id, employee);
+    }
+}
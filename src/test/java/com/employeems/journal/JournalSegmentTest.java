@@ -0,0 +1,140 @@
+package com.employeems.journal;
+
+import com.employeems.events.EmployeeChangeEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalSegmentTest {
+    
+    private static final int SEGMENT_SIZE = 4096;
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void scanReturnsAppendedRecordsInOrder() throws IOException {
+        try (JournalSegment segment = JournalSegment.create(directory, 1, SEGMENT_SIZE)) {
+            append(segment, 1, 10L, "{\"id\":10}");
+            append(segment, 2, 11L, "{\"id\":11}");
+            
+            List<JournalSegment.Entry> entries = scan(segment.readOnlyView(), segment.position());
+            
+            assertThat(entries).extracting(JournalSegment.Entry::sequence).containsExactly(1L, 2L);
+            assertThat(entries).extracting(JournalSegment.Entry::employeeId).containsExactly(10L, 11L);
+            assertThat(new String(entries.get(1).jsonBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":11}");
+            assertThat(segment.lastSequence()).isEqualTo(2);
+        }
+    }
+    
+    @Test
+    void appendReportsWhenRecordDoesNotFit() throws IOException {
+        try (JournalSegment segment = JournalSegment.create(directory, 1, 64)) {
+            assertThat(segment.append(1, 0, EmployeeChangeEvent.Type.CREATED, 1, new byte[64])).isFalse();
+            assertThat(segment.position()).isZero();
+        }
+    }
+    
+    @Test
+    void recoverResumesAfterLastRecord() throws IOException {
+        Path path;
+        try (JournalSegment segment = JournalSegment.create(directory, 5, SEGMENT_SIZE)) {
+            append(segment, 5, 1L, "{\"a\":1}");
+            append(segment, 6, 2L, "{\"a\":2}");
+            path = directory.resolve(JournalSegment.fileName(5));
+        }
+        
+        try (JournalSegment segment = JournalSegment.recover(path)) {
+            assertThat(segment.firstSequence()).isEqualTo(5);
+            assertThat(segment.lastSequence()).isEqualTo(6);
+            append(segment, 7, 3L, "{\"a\":3}");
+            
+            assertThat(scan(segment.readOnlyView(), segment.position()))
+                    .extracting(JournalSegment.Entry::sequence).containsExactly(5L, 6L, 7L);
+        }
+    }
+    
+    @Test
+    void recoverDropsRecordWithBadChecksum() throws IOException {
+        Path path = directory.resolve(JournalSegment.fileName(1));
+        int secondRecord;
+        try (JournalSegment segment = JournalSegment.create(directory, 1, SEGMENT_SIZE)) {
+            append(segment, 1, 1L, "{\"a\":1}");
+            secondRecord = segment.position();
+            append(segment, 2, 2L, "{\"a\":2}");
+        }
+        
+        // Flip one byte of the second record's JSON
+        int jsonOffset = secondRecord + JournalSegment.HEADER_BYTES + JournalSegment.FIXED_BODY_BYTES;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer oneByte = ByteBuffer.allocate(1);
+            channel.read(oneByte, jsonOffset);
+            oneByte.put(0, (byte) (oneByte.get(0) ^ 0x01)).rewind();
+            channel.write(oneByte, jsonOffset);
+        }
+        
+        try (JournalSegment segment = JournalSegment.recover(path)) {
+            assertThat(segment.lastSequence()).isEqualTo(1);
+            assertThat(segment.position()).isEqualTo(secondRecord);
+            
+            append(segment, 2, 2L, "{\"a\":22}");
+            List<JournalSegment.Entry> entries = scan(segment.readOnlyView(), segment.position());
+            assertThat(entries).extracting(JournalSegment.Entry::sequence).containsExactly(1L, 2L);
+            assertThat(new String(entries.get(1).jsonBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"a\":22}");
+        }
+    }
+    
+    @Test
+    void recoverIgnoresTornTail() throws IOException {
+        Path path = directory.resolve(JournalSegment.fileName(1));
+        int tornRecord;
+        try (JournalSegment segment = JournalSegment.create(directory, 1, SEGMENT_SIZE)) {
+            append(segment, 1, 1L, "{\"a\":1}");
+            tornRecord = segment.position();
+        }
+        
+        // A crash after the length word was written but before the body reached disk
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 100), tornRecord);
+        }
+        
+        try (JournalSegment segment = JournalSegment.recover(path)) {
+            assertThat(segment.lastSequence()).isEqualTo(1);
+            assertThat(segment.position()).isEqualTo(tornRecord);
+            assertThat(segment.readOnlyView().getInt(tornRecord)).isZero();
+        }
+    }
+    
+    @Test
+    void scanStopsAtLimit() throws IOException {
+        try (JournalSegment segment = JournalSegment.create(directory, 1, SEGMENT_SIZE)) {
+            append(segment, 1, 1L, "{}");
+            int firstEnd = segment.position();
+            append(segment, 2, 2L, "{}");
+            
+            assertThat(scan(segment.readOnlyView(), firstEnd)).hasSize(1);
+            assertThat(scan(segment.readOnlyView(), segment.position() - 1)).hasSize(1);
+        }
+    }
+    
+    private static void append(JournalSegment segment, long sequence, long employeeId, String json) {
+        assertThat(segment.append(sequence, 1000L * sequence, EmployeeChangeEvent.Type.UPDATED, employeeId,
+                json.getBytes(StandardCharsets.UTF_8))).isTrue();
+    }
+    
+    private static List<JournalSegment.Entry> scan(ByteBuffer buffer, int limit) {
+        List<JournalSegment.Entry> entries = new ArrayList<>();
+        JournalSegment.scan(buffer, limit, entries::add);
+        return entries;
+    }
+}
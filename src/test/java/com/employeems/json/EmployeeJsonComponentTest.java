@@ -0,0 +1,133 @@
+package com.employeems.json;
+
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeJsonComponentTest {
+    
+    // The application's Jackson settings without the component, i.e. plain bean serialization
+    private final ObjectMapper beanMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    
+    private final ObjectMapper componentMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new SimpleModule()
+                    .addSerializer(Employee.class, new EmployeeJsonComponent.Serializer())
+                    .addDeserializer(Employee.class, new EmployeeJsonComponent.Deserializer()))
+            .build();
+    
+    @Test
+    void serializesByteForByteLikeBeanSerialization() throws Exception {
+        for (Employee employee : employees()) {
+            assertThat(new String(componentMapper.writeValueAsBytes(employee)))
+                    .isEqualTo(new String(beanMapper.writeValueAsBytes(employee)));
+        }
+    }
+    
+    @Test
+    void serializesListsLikeBeanSerialization() throws Exception {
+        assertThat(componentMapper.writeValueAsBytes(employees()))
+                .isEqualTo(beanMapper.writeValueAsBytes(employees()));
+    }
+    
+    @Test
+    void readsBackWhatItWrites() throws Exception {
+        for (Employee employee : employees()) {
+            byte[] json = componentMapper.writeValueAsBytes(employee);
+            
+            Employee read = componentMapper.readValue(json, Employee.class);
+            
+            assertThat(read).usingRecursiveComparison().isEqualTo(beanMapper.readValue(json, Employee.class));
+            assertThat(componentMapper.writeValueAsBytes(read)).isEqualTo(json);
+        }
+    }
+    
+    @Test
+    void acceptsTheSameCoercionsAsBeanDeserialization() throws Exception {
+        String json = "{\"id\":\"12\",\"salary\":\"1000.5\",\"isActive\":\"true\",\"hireDate\":[2021,3,4],"
+                + "\"createdAt\":\"2021-03-04T05:06:07.000000008\",\"department\":\"HR\"}";
+        
+        Employee read = componentMapper.readValue(json, Employee.class);
+        Employee expected = beanMapper.readValue(json, Employee.class);
+        
+        assertThat(read).usingRecursiveComparison().ignoringFields("updatedAt").isEqualTo(expected);
+        assertThat(read.getId()).isEqualTo(12L);
+        assertThat(read.getHireDate()).isEqualTo(LocalDate.of(2021, 3, 4));
+    }
+    
+    @Test
+    void keepsSalaryADecimalNumberInCborAndSmile() throws Exception {
+        for (Jackson2ObjectMapperBuilder builder : List.of(Jackson2ObjectMapperBuilder.cbor(),
+                Jackson2ObjectMapperBuilder.smile())) {
+            ObjectMapper binaryMapper = builder
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .modulesToInstall(new SimpleModule()
+                            .addSerializer(Employee.class, new EmployeeJsonComponent.Serializer())
+                            .addDeserializer(Employee.class, new EmployeeJsonComponent.Deserializer()))
+                    .build();
+            Employee employee = employees().get(0);
+            
+            byte[] encoded = binaryMapper.writeValueAsBytes(employee);
+            
+            try (JsonParser parser = binaryMapper.getFactory().createParser(encoded)) {
+                while (!"salary".equals(parser.currentName()) || parser.currentToken() == JsonToken.FIELD_NAME) {
+                    parser.nextToken();
+                }
+                String format = binaryMapper.getFactory().getFormatName();
+                assertThat(parser.currentToken()).as(format).isEqualTo(JsonToken.VALUE_NUMBER_FLOAT);
+                assertThat(parser.getDecimalValue()).as(format).isEqualTo(new BigDecimal("85000.50"));
+                assertThat(parser.getDecimalValue().scale()).as(format).isEqualTo(2);
+            }
+            assertThat(binaryMapper.readValue(encoded, Employee.class))
+                    .usingRecursiveComparison().isEqualTo(employee);
+        }
+    }
+    
+    private static List<Employee> employees() {
+        List<Employee> employees = new ArrayList<>();
+        
+        Employee full = new Employee("Ada", "Lovelace", "ada@example.com", Department.IT,
+                "Engineer \"Lead\" / R&D", new BigDecimal("85000.50"), LocalDate.of(2019, 12, 1));
+        full.setId(1L);
+        full.setPhoneNumber("+44 20 7946 0000");
+        full.setStatus(EmployeeStatus.ON_LEAVE);
+        full.setCreatedAt(LocalDateTime.of(2020, 1, 2, 3, 4, 5, 600_000_000));
+        full.setUpdatedAt(LocalDateTime.of(2024, 5, 6, 7, 8));
+        employees.add(full);
+        
+        Employee unicode = new Employee("Zoë", "Ólafsdóttir", "zoe@example.com", Department.SALES,
+                "Vendedora \tsenior", new BigDecimal("1E+5"), LocalDate.of(2023, 2, 28));
+        unicode.setId(Long.MAX_VALUE);
+        unicode.setIsActive(false);
+        unicode.setCreatedAt(LocalDateTime.of(2023, 2, 28, 23, 59, 59, 999_999_999));
+        unicode.setUpdatedAt(LocalDateTime.of(2023, 3, 1, 0, 0, 0, 1));
+        employees.add(unicode);
+        
+        Employee sparse = new Employee();
+        sparse.setSalary(new BigDecimal("0.0000001"));
+        sparse.setStatus(null);
+        sparse.setIsActive(null);
+        sparse.setCreatedAt(null);
+        sparse.setUpdatedAt(null);
+        employees.add(sparse);
+        
+        return employees;
+    }
+}
@@ -0,0 +1,86 @@
+package com.employeems.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonNumbersTest {
+    
+    private final JsonFactory factory = new JsonFactory();
+    
+    @Test
+    void matchesGeneratorOutputForEdgeCases() throws IOException {
+        List<String> values = List.of(
+                "0", "0.00", "-0.00", "1", "-1", "0.5", "-0.05", "85000.00", "123456.789",
+                "0.000001", "0.0000001", "-0.0000001", "1E+3", "1.0E+10", "-12E-2", "1E-7",
+                "9223372036854775807", "-9223372036854775807", "-9223372036854775808",
+                "92233720368547758.07", "9223372036854775808", "-0.9223372036854775808",
+                "12345678901234567890.12");
+        
+        for (String value : values) {
+            BigDecimal decimal = new BigDecimal(value);
+            assertThat(written(decimal)).as(value).isEqualTo(expected(decimal));
+        }
+    }
+    
+    @Test
+    void matchesGeneratorOutputForRandomValues() throws IOException {
+        Random random = new Random(2024);
+        for (int i = 0; i < 20_000; i++) {
+            BigInteger unscaled = BigInteger.valueOf(random.nextLong() >> random.nextInt(64));
+            BigDecimal decimal = new BigDecimal(unscaled, random.nextInt(24) - 4);
+            
+            assertThat(written(decimal)).as(decimal.toString()).isEqualTo(expected(decimal));
+        }
+    }
+    
+    @Test
+    void writesDecimalsNativelyOnBinaryGenerators() throws IOException {
+        for (JsonFactory binary : List.of(new CBORFactory(), new SmileFactory())) {
+            for (String value : List.of("75000.50", "0.00", "-12.345", "1E+3")) {
+                BigDecimal decimal = new BigDecimal(value);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                try (JsonGenerator gen = binary.createGenerator(out)) {
+                    JsonNumbers.writeDecimal(gen, decimal);
+                }
+                
+                try (JsonParser parser = binary.createParser(out.toByteArray())) {
+                    assertThat(parser.nextToken()).as(binary.getFormatName() + " " + value)
+                            .isEqualTo(JsonToken.VALUE_NUMBER_FLOAT);
+                    assertThat(parser.getNumberType()).isEqualTo(JsonParser.NumberType.BIG_DECIMAL);
+                    assertThat(parser.getDecimalValue()).isEqualTo(decimal);
+                }
+            }
+        }
+    }
+    
+    private String written(BigDecimal value) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator gen = factory.createGenerator(out)) {
+            JsonNumbers.writeDecimal(gen, value);
+        }
+        return out.toString();
+    }
+    
+    private String expected(BigDecimal value) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator gen = factory.createGenerator(out)) {
+            gen.writeNumber(value);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.employeems.repository;
+
+import com.employeems.entity.Employee;
+import com.employeems.exception.InvalidEmployeeDataException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangeTokenTest {
+    
+    @Test
+    void roundTripsNanosecondTimestamps() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 17, 9, 30, 15, 123_456_789);
+        
+        ChangeToken decoded = ChangeToken.decode(new ChangeToken(updatedAt, 99L).encode());
+        
+        assertThat(decoded.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(decoded.getLastId()).isEqualTo(99L);
+    }
+    
+    @Test
+    void roundTripsTimestampsWithoutSeconds() {
+        ChangeToken decoded = ChangeToken.decode(ChangeToken.initial().encode());
+        
+        assertThat(decoded.getUpdatedAt()).isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+        assertThat(decoded.getLastId()).isZero();
+    }
+    
+    @Test
+    void pointsJustPastTheEmployee() {
+        Employee employee = new Employee();
+        employee.setId(7L);
+        employee.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        
+        ChangeToken token = ChangeToken.decode(ChangeToken.after(employee).encode());
+        
+        assertThat(token.getUpdatedAt()).isEqualTo(employee.getUpdatedAt());
+        assertThat(token.getLastId()).isEqualTo(7L);
+        assertThat(token.encode()).matches("[A-Za-z0-9_-]+");
+    }
+    
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> ChangeToken.decode("%%%"))
+                .isInstanceOf(InvalidEmployeeDataException.class);
+        assertThatThrownBy(() -> ChangeToken.decode(encode("2024-01-01T00:00")))
+                .isInstanceOf(InvalidEmployeeDataException.class);
+        assertThatThrownBy(() -> ChangeToken.decode(encode("yesterday\n5")))
+                .isInstanceOf(InvalidEmployeeDataException.class);
+        assertThatThrownBy(() -> ChangeToken.decode(encode("2024-01-01T00:00\nfive")))
+                .isInstanceOf(InvalidEmployeeDataException.class);
+    }
+    
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,108 @@
+package com.employeems.repository;
+
+import com.employeems.entity.Employee;
+import com.employeems.enums.Department;
+import com.employeems.enums.EmployeeStatus;
+import com.employeems.exception.InvalidEmployeeDataException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+    
+    private static final String NO_FILTERS = KeysetCursor.filters(null, null, null, null);
+    
+    @Test
+    void roundTripsThroughEncoding() {
+        Employee employee = employee();
+        
+        KeysetCursor decoded = KeysetCursor.decode(
+                KeysetCursor.after(employee, "salary", Sort.Direction.DESC, NO_FILTERS).encode());
+        
+        assertThat(decoded.getSortBy()).isEqualTo("salary");
+        assertThat(decoded.getDirection()).isEqualTo(Sort.Direction.DESC);
+        assertThat(decoded.getFilters()).isEqualTo(NO_FILTERS);
+        assertThat(decoded.getLastId()).isEqualTo(42L);
+        assertThat(decoded.getLastValue()).isEqualTo("85000.50");
+    }
+    
+    @Test
+    void encodesEnumsByNameAndDatesInIsoForm() {
+        Employee employee = employee();
+        
+        assertThat(KeysetCursor.decode(KeysetCursor.after(employee, "department", Sort.Direction.ASC, NO_FILTERS)
+                .encode()).getLastValue()).isEqualTo("IT");
+        assertThat(KeysetCursor.decode(KeysetCursor.after(employee, "hireDate", Sort.Direction.ASC, NO_FILTERS)
+                .encode()).getLastValue()).isEqualTo("2020-01-15");
+    }
+    
+    @Test
+    void keepsSeparatorsInsideTheLastValue() {
+        KeysetCursor cursor = new KeysetCursor("position", Sort.Direction.ASC, NO_FILTERS, 7L, "Senior\nEngineer");
+        
+        assertThat(KeysetCursor.decode(cursor.encode()).getLastValue()).isEqualTo("Senior\nEngineer");
+    }
+    
+    @Test
+    void encodingIsUrlSafe() {
+        KeysetCursor cursor = new KeysetCursor("email", Sort.Direction.ASC, NO_FILTERS, 1L, "???>>>~~~");
+        
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+    
+    @Test
+    void filterFingerprintDependsOnEveryFilter() {
+        String filters = KeysetCursor.filters(Department.IT, EmployeeStatus.ACTIVE, true, "ada");
+        
+        assertThat(KeysetCursor.filters(Department.IT, EmployeeStatus.ACTIVE, true, "ada")).isEqualTo(filters);
+        assertThat(KeysetCursor.filters(Department.HR, EmployeeStatus.ACTIVE, true, "ada")).isNotEqualTo(filters);
+        assertThat(KeysetCursor.filters(Department.IT, null, true, "ada")).isNotEqualTo(filters);
+        assertThat(KeysetCursor.filters(Department.IT, EmployeeStatus.ACTIVE, false, "ada")).isNotEqualTo(filters);
+        assertThat(KeysetCursor.filters(Department.IT, EmployeeStatus.ACTIVE, true, "bob")).isNotEqualTo(filters);
+        assertThat(KeysetCursor.filters(null, null, null, "  ")).isEqualTo(NO_FILTERS);
+        assertThat(KeysetCursor.filters(null, null, null, " ada "))
+                .isEqualTo(KeysetCursor.filters(null, null, null, "ada"));
+        // "Aa" and "BB" share a String.hashCode
+        assertThat(KeysetCursor.filters(null, null, null, "Aa"))
+                .isNotEqualTo(KeysetCursor.filters(null, null, null, "BB"));
+    }
+    
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!"))
+                .isInstanceOf(InvalidEmployeeDataException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("salary\nASC\n" + NO_FILTERS + "\n42")))
+                .isInstanceOf(InvalidEmployeeDataException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("password\nASC\n" + NO_FILTERS + "\n42\nx")))
+                .isInstanceOf(InvalidEmployeeDataException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("salary\nSIDEWAYS\n" + NO_FILTERS + "\n42\n1")))
+                .isInstanceOf(InvalidEmployeeDataException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("salary\nASC\n" + NO_FILTERS + "\nabc\n1")))
+                .isInstanceOf(InvalidEmployeeDataException.class);
+    }
+    
+    @Test
+    void requireSortableRejectsUnknownFields() {
+        assertThat(KeysetCursor.requireSortable("hireDate")).isEqualTo("hireDate");
+        assertThatThrownBy(() -> KeysetCursor.requireSortable("phoneNumber"))
+                .isInstanceOf(InvalidEmployeeDataException.class);
+    }
+    
+    private static Employee employee() {
+        Employee employee = new Employee("Ada", "Lovelace", "ada@example.com", Department.IT,
+                "Engineer", new BigDecimal("85000.50"), LocalDate.of(2020, 1, 15));
+        employee.setId(42L);
+        return employee;
+    }
+    
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}